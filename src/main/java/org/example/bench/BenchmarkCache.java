@@ -0,0 +1,84 @@
+package org.example.bench;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.Liga;
+import org.example.core.Partido;
+import org.example.entidades.Equipos;
+import org.example.util.CacheCuotas;
+import org.example.util.GestorMercado;
+
+import java.util.List;
+
+/**
+ * Mide cuánto ahorra una CacheCuotas compartida al recalcular las cuotas de muchos
+ * partidos. Primero juega todos los partidos y guarda el marcador de cada minuto;
+ * después repite solo el cálculo de cuotas de todos ellos, alternando rondas sin
+ * caché y con una caché nueva, para que la simulación no ensucie la medición. Como
+ * en ServidorPartidos, en cada ronda todos los partidos avanzan minuto a minuto a la par.
+ * Imprime la mejor ronda de cada caso y la tasa de aciertos de la caché.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkCache [partidos] [capacidad]
+ */
+public class BenchmarkCache {
+
+    private static final int RONDAS = 5;
+    private static final int MINUTOS = EjecutorPartido.MINUTOS + 1;
+
+    public static void main(String[] args) {
+        int partidos = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int capacidad = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 16;
+
+        Equipos[] locales = new Equipos[partidos];
+        Equipos[] visitantes = new Equipos[partidos];
+        int[][] golesLocal = new int[partidos][MINUTOS];
+        int[][] golesVisitante = new int[partidos][MINUTOS];
+        for (int i = 0; i < partidos; i++) {
+            List<Equipos> equipos = Liga.crearEquiposPredeterminados(i % 16);
+            Equipos local = equipos.get(i % equipos.size());
+            Equipos visitante = equipos.get((i + 1 + i / equipos.size()) % equipos.size());
+            if (local == visitante) {
+                visitante = equipos.get((i + 2) % equipos.size());
+            }
+            Partido partido = new Partido(local, visitante, i);
+            for (int minuto = 0; minuto < MINUTOS; minuto++) {
+                partido.simularMinuto(minuto);
+                golesLocal[i][minuto] = local.getGoles();
+                golesVisitante[i][minuto] = visitante.getGoles();
+            }
+            locales[i] = local;
+            visitantes[i] = visitante;
+        }
+
+        long mejorSinCache = Long.MAX_VALUE;
+        long mejorConCache = Long.MAX_VALUE;
+        CacheCuotas cache = null;
+        for (int ronda = 0; ronda < RONDAS; ronda++) {
+            mejorSinCache = Math.min(mejorSinCache, medir(locales, visitantes, golesLocal, golesVisitante, null));
+            cache = new CacheCuotas(capacidad);
+            mejorConCache = Math.min(mejorConCache, medir(locales, visitantes, golesLocal, golesVisitante, cache));
+        }
+
+        long calculos = (long) partidos * MINUTOS;
+        System.out.printf("Sin caché: %d ms (%.0f ns por cálculo)%n", mejorSinCache / 1_000_000, (double) mejorSinCache / calculos);
+        System.out.printf("Con caché: %d ms (%.0f ns por cálculo)%n", mejorConCache / 1_000_000, (double) mejorConCache / calculos);
+        System.out.println(cache);
+    }
+
+    /**
+     * @return Nanosegundos gastados en recalcular las cuotas de todos los partidos
+     */
+    private static long medir(Equipos[] locales, Equipos[] visitantes, int[][] golesLocal, int[][] golesVisitante,
+                              CacheCuotas cache) {
+        GestorMercado[] mercados = new GestorMercado[locales.length];
+        for (int i = 0; i < mercados.length; i++) {
+            mercados[i] = new GestorMercado(cache);
+        }
+
+        long inicio = System.nanoTime();
+        for (int minuto = 0; minuto < MINUTOS; minuto++) {
+            for (int i = 0; i < mercados.length; i++) {
+                mercados[i].actualizarCuotas(minuto, golesLocal[i][minuto], golesVisitante[i][minuto], locales[i], visitantes[i]);
+            }
+        }
+        return System.nanoTime() - inicio;
+    }
+}
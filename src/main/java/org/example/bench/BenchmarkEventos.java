@@ -0,0 +1,75 @@
+package org.example.bench;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.Eventos;
+import org.example.core.Partido;
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+import org.example.util.Aleatorio;
+
+/**
+ * Compara la resolución de eventos con tablas precalculadas contra el cálculo directo.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkEventos [partidos]
+ */
+public class BenchmarkEventos {
+
+    private static final int RONDAS = 5;
+
+    public static void main(String[] args) {
+        int partidos = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        Equipos local = new Equipos("Local", new Aleatorio(1));
+        Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+
+        System.out.println("Resolución de tiros a puerta (" + partidos * 10 + " tiros)");
+        for (int ronda = 0; ronda < RONDAS; ronda++) {
+            double directo = medirTiros(local, visitante, partidos * 10, false);
+            double tablas = medirTiros(local, visitante, partidos * 10, true);
+            System.out.printf("  ronda %d: directo %.1f M tiros/s | tablas %.1f M tiros/s%n",
+                    ronda, directo / 1e6, tablas / 1e6);
+        }
+
+        System.out.println("Partidos completos (" + partidos + " partidos)");
+        for (int ronda = 0; ronda < RONDAS; ronda++) {
+            double directo = medirPartidos(local, visitante, partidos, false);
+            double tablas = medirPartidos(local, visitante, partidos, true);
+            System.out.printf("  ronda %d: directo %.0f partidos/s | tablas %.0f partidos/s%n",
+                    ronda, directo, tablas);
+        }
+    }
+
+    private static double medirTiros(Equipos atacantes, Equipos defensores, int tiros, boolean usarTablas) {
+        Eventos eventos = new Eventos(new Aleatorio(3));
+        eventos.setUsarTablas(usarTablas);
+        Jugador[] tiradores = atacantes.getJugadores();
+
+        long inicio = System.nanoTime();
+        int goles = 0;
+        for (int i = 0; i < tiros; i++) {
+            if (eventos.tiroPuerta(tiradores[i % tiradores.length], defensores.getPortero())) {
+                goles++;
+            }
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        // Usar el resultado para que el JIT no elimine el bucle
+        if (goles < 0) System.out.println(goles);
+        return tiros / (duracion / 1e9);
+    }
+
+    private static double medirPartidos(Equipos local, Equipos visitante, int partidos, boolean usarTablas) {
+        EjecutorPartido ejecutor = new EjecutorPartido();
+
+        long inicio = System.nanoTime();
+        int goles = 0;
+        for (int i = 0; i < partidos; i++) {
+            Partido partido = new Partido(new Equipos(local), new Equipos(visitante), i);
+            partido.getEventos().setUsarTablas(usarTablas);
+            goles += ejecutor.jugar(partido).getGolesLocal();
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        if (goles < 0) System.out.println(goles);
+        return partidos / (duracion / 1e9);
+    }
+}
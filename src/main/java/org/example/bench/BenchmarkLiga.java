@@ -0,0 +1,28 @@
+package org.example.bench;
+
+import org.example.core.Liga;
+import org.example.core.ProbabilidadesLiga;
+
+/**
+ * Simula muchas temporadas de la liga con los equipos de EquiposNombres e imprime
+ * la probabilidad de título y descenso de cada equipo.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkLiga [temporadas]
+ */
+public class BenchmarkLiga {
+
+    public static void main(String[] args) {
+        int temporadas = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        Liga liga = new Liga(Liga.crearEquiposPredeterminados(1));
+        int partidos = liga.getNumJornadas() * (liga.getNumEquipos() / 2);
+
+        long inicio = System.nanoTime();
+        ProbabilidadesLiga probabilidades = liga.simularTemporadas(temporadas, 2024);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.print(probabilidades);
+        System.out.printf("%d temporadas (%d partidos) en %.2f s, %d hilos, %.0f partidos/s%n",
+                temporadas, (long) temporadas * partidos, segundos,
+                Runtime.getRuntime().availableProcessors(), temporadas * partidos / segundos);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.bench;
+
+import org.example.core.Liga;
+import org.example.entidades.Equipos;
+import org.example.util.GestorMercado;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Mide cuántas veces por segundo GestorMercado puede recalcular las cuotas de un
+ * partido en vivo (solo 1X2 y con todos los mercados) y cuánta memoria reserva por cálculo.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkMercado [vueltas]
+ */
+public class BenchmarkMercado {
+
+    public static void main(String[] args) {
+        int vueltas = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        List<Equipos> equipos = Liga.crearEquiposPredeterminados(1);
+        Equipos local = equipos.get(0);
+        Equipos visitante = equipos.get(1);
+        GestorMercado mercado = new GestorMercado();
+
+        medir("1X2", mercado, local, visitante, vueltas, false);
+        medir("Todos los mercados", mercado, local, visitante, vueltas, true);
+        System.out.println("Cuotas finales: " + mercado.getCuotaLocal() + " / " + mercado.getCuotaEmpate()
+                + " / " + mercado.getCuotaVisitante());
+    }
+
+    private static void medir(String nombre, GestorMercado mercado, Equipos local, Equipos visitante,
+                              int vueltas, boolean todos) {
+        // Calentamiento para que el JIT compile el cálculo
+        recalcular(mercado, local, visitante, vueltas / 10, todos);
+
+        long bytesAntes = bytesReservados();
+        long inicio = System.nanoTime();
+        recalcular(mercado, local, visitante, vueltas, todos);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        long bytes = bytesReservados() - bytesAntes;
+
+        long calculos = (long) vueltas * 91;
+        System.out.printf("%s: %d cálculos en %.3f s, %.0f cálculos/s", nombre, calculos, segundos, calculos / segundos);
+        if (bytes >= 0) {
+            System.out.printf(", %.3f bytes por cálculo", (double) bytes / calculos);
+        }
+        System.out.println();
+    }
+
+    private static double recalcular(GestorMercado mercado, Equipos local, Equipos visitante, int vueltas,
+                                     boolean todos) {
+        double suma = 0;
+        for (int v = 0; v < vueltas; v++) {
+            for (int minuto = 0; minuto <= 90; minuto++) {
+                mercado.actualizarCuotas(minuto, v & 1, (v >> 1) & 1, local, visitante);
+                if (todos) {
+                    suma += mercado.getMercados().getCuotaHandicap(-0.25);
+                }
+            }
+        }
+        return suma;
+    }
+
+    /**
+     * Bytes reservados por este hilo, o -1 si la JVM no lo informa.
+     */
+    private static long bytesReservados() {
+        java.lang.management.ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        if (hilos instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) hilos).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.bench;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.EscritorRegistroBinario;
+import org.example.core.LectorRegistroBinario;
+import org.example.core.RegistroEventos;
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Mide la escritura y lectura del registro binario de eventos.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkRegistro [eventos] [partidos]
+ */
+public class BenchmarkRegistro {
+
+    public static void main(String[] args) throws IOException {
+        int eventos = args.length > 0 ? Integer.parseInt(args[0]) : 50_000_000;
+        int partidos = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        Path archivo = Files.createTempFile("partidos", ".ssim");
+
+        try {
+            // Solo escritura: códigos sintéticos, para medir el escritor sin la simulación
+            long inicio = System.nanoTime();
+            try (EscritorRegistroBinario escritor = new EscritorRegistroBinario(archivo)) {
+                for (int i = 0; i < eventos; i++) {
+                    escritor.escribir(i / 25, i);
+                }
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("Escritura: %d eventos en %.2f s (%.1f M eventos/s, %.0f MB)%n",
+                    eventos, segundos, eventos / segundos / 1e6, Files.size(archivo) / 1e6);
+
+            inicio = System.nanoTime();
+            long suma = 0;
+            try (LectorRegistroBinario lector = new LectorRegistroBinario(archivo)) {
+                for (long i = 0; i < lector.getNumRegistros(); i++) {
+                    suma += lector.getCodigo(i);
+                }
+                segundos = (System.nanoTime() - inicio) / 1e9;
+                System.out.printf("Lectura: %d eventos en %.2f s (%.1f M eventos/s), suma %d%n",
+                        lector.getNumRegistros(), segundos, lector.getNumRegistros() / segundos / 1e6, suma);
+            }
+
+            // Partidos simulados escribiendo todos sus eventos
+            Equipos local = new Equipos("Local", new Aleatorio(1));
+            Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+            EjecutorPartido ejecutor = new EjecutorPartido();
+            inicio = System.nanoTime();
+            long escritos;
+            try (EscritorRegistroBinario escritor = new EscritorRegistroBinario(archivo)) {
+                for (int i = 0; i < partidos; i++) {
+                    ejecutor.jugar(new Equipos(local), new Equipos(visitante), i);
+                    RegistroEventos registro = ejecutor.getRegistro();
+                    escritor.escribir(i, registro);
+                }
+                escritos = escritor.getRegistros();
+            }
+            segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("Simulación con registro: %d partidos, %d eventos en %.2f s%n",
+                    partidos, escritos, segundos);
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.bench;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.LotePartidos;
+import org.example.core.ResolucionLote;
+import org.example.core.TablasEventos;
+import org.example.entidades.Equipos;
+import org.example.enums.ModoSimulacion;
+import org.example.util.Aleatorio;
+
+/**
+ * Compara tres formas de resolver tiros a puerta: la fórmula original (cociente de
+ * potencia contra reflejos del portero, tiro por tiro), la tabla tiro por tiro y
+ * ResolucionLote. También compara LotePartidos completo contra EjecutorPartido.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkResolucion [partidos]
+ */
+public class BenchmarkResolucion {
+
+    private static final int RONDAS = 5;
+    private static final int TIROS = 4096;
+    private static final int REPETICIONES = 2_000;
+    private static final double PESO_PORTERO = 3.5;
+
+    private static final int FORMULA = 0;
+    private static final int TABLA = 1;
+    private static final int LOTE = 2;
+
+    public static void main(String[] args) {
+        int partidos = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        int[] potencia5 = new int[TIROS];
+        int[] reflejos = new int[TIROS];
+        double[] azar = new double[TIROS];
+        double[] probabilidad = new double[TIROS];
+        boolean[] gol = new boolean[TIROS];
+        Aleatorio random = new Aleatorio(7);
+        for (int i = 0; i < TIROS; i++) {
+            potencia5[i] = 5 * (1 + random.siguienteEntero(100)) + 1 + random.siguienteEntero(100);
+            reflejos[i] = 1 + random.siguienteEntero(100);
+            azar[i] = random.siguienteDouble();
+        }
+
+        System.out.println("Tiros a puerta en bloques de " + TIROS);
+        for (int ronda = 0; ronda < RONDAS; ronda++) {
+            double formula = medirTiros(potencia5, reflejos, azar, probabilidad, gol, FORMULA);
+            double tabla = medirTiros(potencia5, reflejos, azar, probabilidad, gol, TABLA);
+            double lote = medirTiros(potencia5, reflejos, azar, probabilidad, gol, LOTE);
+            System.out.printf("  ronda %d: fórmula %.1f | tabla %.1f | lote %.1f M tiros/s (x%.1f sobre fórmula)%n",
+                    ronda, formula / 1e6, tabla / 1e6, lote / 1e6, lote / formula);
+        }
+
+        Equipos local = new Equipos("Local", new Aleatorio(1));
+        Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+
+        System.out.println("Partidos completos (" + partidos + " partidos)");
+        for (int ronda = 0; ronda < RONDAS; ronda++) {
+            double objetos = medirEjecutor(local, visitante, partidos);
+            double escalar = medirLote(local, visitante, partidos, false);
+            double lote = medirLote(local, visitante, partidos, true);
+            System.out.printf("  ronda %d: objetos %.0f | lote tiro por tiro %.0f | lote por minuto %.0f partidos/s%n",
+                    ronda, objetos, escalar, lote);
+        }
+    }
+
+    private static double medirTiros(int[] potencia5, int[] reflejos, double[] azar, double[] probabilidad,
+                                     boolean[] gol, int modo) {
+        long inicio = System.nanoTime();
+        int goles = 0;
+        for (int r = 0; r < REPETICIONES; r++) {
+            if (modo == LOTE) {
+                ResolucionLote.probabilidadesTiroPuerta(TIROS, potencia5, reflejos, probabilidad);
+                ResolucionLote.resolver(TIROS, azar, probabilidad, gol);
+            } else if (modo == TABLA) {
+                for (int i = 0; i < TIROS; i++) {
+                    gol[i] = azar[i] < TablasEventos.tiroPuertaPorPotencia(potencia5[i], reflejos[i]);
+                }
+            } else {
+                for (int i = 0; i < TIROS; i++) {
+                    gol[i] = azar[i] < probabilidadFormula(potencia5[i], reflejos[i]);
+                }
+            }
+            if (gol[r % TIROS]) goles++;
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        // Usar el resultado para que el JIT no elimine el bucle
+        if (goles < 0) System.out.println(goles);
+        return (double) TIROS * REPETICIONES / (duracion / 1e9);
+    }
+
+    /**
+     * Fórmula original de Eventos.tiroPuerta, con el ajuste de -5 a +4 promediado.
+     */
+    private static double probabilidadFormula(int potencia5, int reflejos) {
+        double potencia = potencia5 / 5.0;
+        double resistencia = reflejos * PESO_PORTERO;
+        double base = potencia / (potencia + resistencia) * 100;
+
+        double suma = 0;
+        for (int ajuste = -5; ajuste < 5; ajuste++) {
+            suma += Math.max(0.0, Math.min(1.0, (base + ajuste) / 100.0));
+        }
+        return suma / 10.0;
+    }
+
+    private static double medirEjecutor(Equipos local, Equipos visitante, int partidos) {
+        EjecutorPartido ejecutor = new EjecutorPartido();
+        ejecutor.setModo(ModoSimulacion.POR_MINUTO);
+
+        long inicio = System.nanoTime();
+        int goles = 0;
+        for (int i = 0; i < partidos; i++) {
+            goles += ejecutor.jugar(new Equipos(local), new Equipos(visitante), i).getGolesLocal();
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        if (goles < 0) System.out.println(goles);
+        return partidos / (duracion / 1e9);
+    }
+
+    private static double medirLote(Equipos local, Equipos visitante, int partidos, boolean porLote) {
+        LotePartidos lote = new LotePartidos(partidos);
+        lote.setResolucionPorLote(porLote);
+
+        long inicio = System.nanoTime();
+        lote.cargarTodos(local, visitante, 11, 0);
+        lote.jugar();
+        long duracion = System.nanoTime() - inicio;
+
+        int goles = 0;
+        for (int i = 0; i < partidos; i++) {
+            goles += lote.getGolesLocal(i);
+        }
+        if (goles < 0) System.out.println(goles);
+        return partidos / (duracion / 1e9);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.bench;
+
+import org.example.core.Liga;
+import org.example.entidades.Equipos;
+import org.example.servidor.ServidorPartidos;
+
+import java.util.List;
+
+/**
+ * Aloja muchos partidos en vivo a la vez en ServidorPartidos y mide la variación del
+ * intervalo entre ticks de la rueda y los minutos jugados por segundo.
+ * Se ejecuta con: java -cp target/classes org.example.bench.BenchmarkServidor [partidos] [msPorMinuto] [segundos]
+ */
+public class BenchmarkServidor {
+
+    public static void main(String[] args) throws InterruptedException {
+        int numPartidos = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long msPorMinuto = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        try (ServidorPartidos servidor = new ServidorPartidos(msPorMinuto)) {
+            for (int i = 0; i < numPartidos; i++) {
+                // Cada partido necesita sus propios equipos: el servidor los modifica al jugar
+                List<Equipos> equipos = Liga.crearEquiposPredeterminados(i);
+                servidor.iniciarPartido(equipos.get(0), equipos.get(1), i);
+            }
+
+            long minutosAntes = servidor.getMinutosJugados();
+            long inicio = System.nanoTime();
+            Thread.sleep(segundos * 1000L);
+            double transcurrido = (System.nanoTime() - inicio) / 1e9;
+            long minutos = servidor.getMinutosJugados() - minutosAntes;
+
+            System.out.printf("%d partidos, %d ms por minuto, %d hilos%n", numPartidos, msPorMinuto,
+                    Runtime.getRuntime().availableProcessors());
+            System.out.printf("%d minutos jugados (%.0f/s, esperados %.0f/s), %d omitidos%n",
+                    minutos, minutos / transcurrido,
+                    numPartidos * 1000.0 / msPorMinuto, servidor.getMinutosOmitidos());
+            System.out.printf("Variación entre ticks: promedio %.3f ms, máxima %.3f ms%n",
+                    servidor.getVariacionPromedioMs(), servidor.getVariacionMaximaMs());
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+import org.example.entidades.Portero;
+import org.example.enums.TipoEvento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Distribución exacta de resultados de un partido sin simular, a partir del mismo
+ * modelo de eventos de Partido (SelectorEventos y fórmulas de Eventos/TablasEventos).
+ *
+ * Cada minuto es un paso de una cadena de Markov sobre (minuto, goles local, goles
+ * visitante): con probabilidad golLocal el local mete un gol, con golVisitante lo mete
+ * el visitante y si no, el marcador no cambia. Esas dos probabilidades salen de la
+ * probabilidad de cada tipo de evento que puede terminar en gol (tiro a puerta, penal,
+ * tiro libre y esquina), de que lo protagonice cada equipo (1/2) y del promedio de
+ * éxito sobre todos los pares atacante/defensor posibles contra el portero rival.
+ *
+ * Como la probabilidad de gol no depende del marcador, el valor de cualquier estado
+ * solo depende de los minutos que faltan y de los goles que se agregan. Por eso basta
+ * una pasada O(minutos * MAX_GOLES²) que calcula, para cada cantidad de minutos
+ * restantes, la distribución de goles que faltan; con ella cada estado del partido
+ * (cualquier minuto, cualquier marcador) se valora con una lectura de tabla.
+ *
+ * Supone que las alineaciones no cambian por el resto del partido: una expulsión o
+ * un cambio cambia las probabilidades, y hay que construir una cadena nueva con los
+ * equipos como queden.
+ *
+ * Los goles que faltan se acotan a MAX_GOLES por equipo; la probabilidad de meter más
+ * se acumula en la última casilla.
+ *
+ * Si la cadena se construye desde un minuto ya avanzado (por ejemplo, después de una
+ * expulsión), solo se calculan los minutos que quedan y solo se pueden consultar
+ * estados desde ese minuto en adelante.
+ */
+public class CadenaMarkovPartido {
+
+    public static final int MAX_GOLES = 10;
+    private static final int LADO = MAX_GOLES + 1;
+    private static final int LADO_DIFERENCIA = 2 * MAX_GOLES + 1;
+
+    // Se juegan los minutos 0 a EjecutorPartido.MINUTOS
+    private static final int MINUTOS_PARTIDO = EjecutorPartido.MINUTOS + 1;
+
+    private final double golLocal;
+    private final double golVisitante;
+    private final int minutoDesde;
+
+    // faltantes[r][x * LADO + y]: probabilidad de que en r minutos el local meta x goles y el visitante y
+    private final double[][] faltantes;
+
+    // alMenos[r][k + MAX_GOLES]: probabilidad de que en r minutos (goles local - goles visitante) >= k
+    private final double[][] alMenos;
+
+    /**
+     * Cadena con las probabilidades de evento por defecto de Partido.
+     * @param local Equipo local (se lee, no se modifica)
+     * @param visitante Equipo visitante (se lee, no se modifica)
+     */
+    public CadenaMarkovPartido(Equipos local, Equipos visitante) {
+        this(local, visitante, Partido.selectorPredeterminado(), 0);
+    }
+
+    /**
+     * Cadena con las probabilidades por defecto que solo cubre desde un minuto en adelante.
+     * @param local Equipo local (se lee, no se modifica)
+     * @param visitante Equipo visitante (se lee, no se modifica)
+     * @param minutoDesde Primer minuto por jugar que se podrá consultar
+     */
+    public CadenaMarkovPartido(Equipos local, Equipos visitante, int minutoDesde) {
+        this(local, visitante, Partido.selectorPredeterminado(), minutoDesde);
+    }
+
+    /**
+     * @param local Equipo local (se lee, no se modifica)
+     * @param visitante Equipo visitante (se lee, no se modifica)
+     * @param selector Probabilidades de evento por minuto del partido
+     * @param minutoDesde Primer minuto por jugar que se podrá consultar (0 para todo el partido)
+     * @throws IllegalArgumentException si minutoDesde es negativo
+     */
+    public CadenaMarkovPartido(Equipos local, Equipos visitante, SelectorEventos selector, int minutoDesde) {
+        if (minutoDesde < 0) {
+            throw new IllegalArgumentException("El minuto no puede ser negativo");
+        }
+        double[] probabilidadTipo = probabilidadesPorTipo(selector);
+        this.golLocal = probabilidadGol(local, visitante, probabilidadTipo);
+        this.golVisitante = probabilidadGol(visitante, local, probabilidadTipo);
+        this.minutoDesde = Math.min(minutoDesde, MINUTOS_PARTIDO);
+
+        int restantes = MINUTOS_PARTIDO - this.minutoDesde;
+        this.faltantes = new double[restantes + 1][LADO * LADO];
+        this.alMenos = new double[restantes + 1][LADO_DIFERENCIA];
+        construirTablas();
+    }
+
+    // ===== PROBABILIDADES POR MINUTO =====
+
+    /**
+     * Probabilidad de cada tipo de evento en un minuto, contando las casillas del
+     * selector (la misma que resulta de sortear con SelectorEventos.elegir).
+     */
+    private static double[] probabilidadesPorTipo(SelectorEventos selector) {
+        double[] probabilidades = new double[TipoEvento.values().length];
+        for (int casilla = 0; casilla < SelectorEventos.RESOLUCION; casilla++) {
+            probabilidades[selector.tipoEnCasilla(casilla).ordinal()] += 1.0 / SelectorEventos.RESOLUCION;
+        }
+        return probabilidades;
+    }
+
+    /**
+     * Probabilidad de que el atacante meta un gol en un minuto cualquiera.
+     * Cada evento elige al azar el equipo, un jugador disponible de cada lado y se
+     * resuelve contra el portero del defensor, igual que Partido.
+     */
+    private static double probabilidadGol(Equipos atacante, Equipos defensor, double[] probabilidadTipo) {
+        List<Jugador> atacantes = disponibles(atacante);
+        List<Jugador> defensores = disponibles(defensor);
+        if (atacantes.isEmpty() || defensores.isEmpty()) {
+            return 0.0; // Minuto SIN_JUGADORES
+        }
+        Portero portero = defensor.getPortero();
+        int reflejos = portero.getReflejos();
+
+        double tiro = 0;
+        double penal = 0;
+        double libre = 0;
+        double esquina = 0;
+        for (Jugador jugador : atacantes) {
+            tiro += TablasEventos.tiroPuerta(jugador.getTiro(), jugador.getVelocidad(), reflejos);
+            penal += TablasEventos.penal(jugador.getTiro(), reflejos);
+            libre += jugador.getTiro() > 85
+                    ? TablasEventos.tiroLibreDirecto(jugador.getTiro(), reflejos)
+                    : jugador.getPase() * 0.01 * TablasEventos.tiroPuerta(jugador.getTiro(), jugador.getVelocidad(), reflejos);
+
+            // En la esquina también importa el defensor que salta con el atacante
+            double sinCorte = TablasEventos.esquinaSinCorte(reflejos, portero.getSaque(), jugador.getPase());
+            double cabezazo = TablasEventos.esquinaCabezazo(jugador.getTiro(), reflejos);
+            double posicion = 0;
+            for (Jugador marcador : defensores) {
+                posicion += TablasEventos.esquinaPosicion(jugador.getFisico(), marcador.getFisico(), marcador.getDefensa());
+            }
+            esquina += sinCorte * (posicion / defensores.size()) * cabezazo;
+        }
+
+        int n = atacantes.size();
+        double exito = probabilidadTipo[TipoEvento.TIRO_PUERTA.ordinal()] * tiro / n
+                + probabilidadTipo[TipoEvento.PENAL.ordinal()] * penal / n
+                + probabilidadTipo[TipoEvento.TIRO_LIBRE.ordinal()] * libre / n
+                + probabilidadTipo[TipoEvento.TIRO_ESQUINA.ordinal()] * esquina / n;
+        return 0.5 * exito;
+    }
+
+    /**
+     * Titulares no expulsados (los mismos que puede elegir Equipos.getJugadorRandom).
+     */
+    private static List<Jugador> disponibles(Equipos equipo) {
+        List<Jugador> disponibles = new ArrayList<>(equipo.getNumTitulares());
+        for (Jugador jugador : equipo.getTitulares()) {
+            if (!jugador.isExpulsado()) {
+                disponibles.add(jugador);
+            }
+        }
+        return disponibles;
+    }
+
+    // ===== CONSTRUCCIÓN =====
+
+    private void construirTablas() {
+        faltantes[0][0] = 1.0;
+        for (int r = 1; r < faltantes.length; r++) {
+            avanzarMinuto(faltantes[r - 1], faltantes[r], golLocal, golVisitante);
+        }
+
+        for (int r = 0; r < faltantes.length; r++) {
+            double[] diferencia = new double[LADO_DIFERENCIA];
+            for (int x = 0; x < LADO; x++) {
+                for (int y = 0; y < LADO; y++) {
+                    diferencia[x - y + MAX_GOLES] += faltantes[r][x * LADO + y];
+                }
+            }
+            double acumulado = 0;
+            for (int k = LADO_DIFERENCIA - 1; k >= 0; k--) {
+                acumulado += diferencia[k];
+                alMenos[r][k] = acumulado;
+            }
+        }
+    }
+
+    /**
+     * Suma a ahora la distribución de goles que faltan con un minuto más que antes.
+     */
+    private static void avanzarMinuto(double[] antes, double[] ahora, double golLocal, double golVisitante) {
+        double sinGol = 1.0 - golLocal - golVisitante;
+        for (int x = 0; x < LADO; x++) {
+            for (int y = 0; y < LADO; y++) {
+                double p = antes[x * LADO + y];
+                if (p == 0) {
+                    continue;
+                }
+                ahora[x * LADO + y] += p * sinGol;
+                ahora[Math.min(x + 1, MAX_GOLES) * LADO + y] += p * golLocal;
+                ahora[x * LADO + Math.min(y + 1, MAX_GOLES)] += p * golVisitante;
+            }
+        }
+    }
+
+    /**
+     * Calcula la misma distribución que copiarGolesRestantes solo con las dos
+     * probabilidades de gol por minuto, sin guardar las tablas de una cadena: sirve
+     * para quien necesita la matriz de vez en cuando y no quiere mantener viva la cadena
+     * entera. Cuesta O(minutos restantes * MAX_GOLES²) y no crea objetos.
+     * @param golLocal Probabilidad de gol del local por minuto (getProbabilidadGolLocal)
+     * @param golVisitante Probabilidad de gol del visitante por minuto (getProbabilidadGolVisitante)
+     * @param minutoSiguiente Próximo minuto por jugar
+     * @param destino Arreglo de al menos (MAX_GOLES + 1)² posiciones para el resultado
+     * @param auxiliar Arreglo de trabajo del mismo tamaño (se pisa)
+     */
+    public static void calcularGolesRestantes(double golLocal, double golVisitante, int minutoSiguiente,
+                                              double[] destino, double[] auxiliar) {
+        int restantes = Math.max(0, MINUTOS_PARTIDO - Math.max(0, minutoSiguiente));
+        double[] antes = destino;
+        double[] ahora = auxiliar;
+        Arrays.fill(antes, 0, LADO * LADO, 0.0);
+        antes[0] = 1.0;
+        for (int r = 0; r < restantes; r++) {
+            Arrays.fill(ahora, 0, LADO * LADO, 0.0);
+            avanzarMinuto(antes, ahora, golLocal, golVisitante);
+            double[] t = antes;
+            antes = ahora;
+            ahora = t;
+        }
+        if (antes != destino) {
+            System.arraycopy(antes, 0, destino, 0, LADO * LADO);
+        }
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Probabilidad de que el local meta un gol en un minuto.
+     */
+    public double getProbabilidadGolLocal() {
+        return golLocal;
+    }
+
+    /**
+     * Probabilidad de que el visitante meta un gol en un minuto.
+     */
+    public double getProbabilidadGolVisitante() {
+        return golVisitante;
+    }
+
+    /**
+     * Probabilidad de que gane el local desde un estado del partido.
+     * @param minutoSiguiente Próximo minuto por jugar (0 antes del saque inicial)
+     * @param golesLocal Goles actuales del local
+     * @param golesVisitante Goles actuales del visitante
+     */
+    public double getProbabilidadLocal(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        // Gana si la diferencia que falta es mayor que -(diferencia actual)
+        return probabilidadAlMenos(minutosRestantes(minutoSiguiente), golesVisitante - golesLocal + 1);
+    }
+
+    public double getProbabilidadEmpate(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        int r = minutosRestantes(minutoSiguiente);
+        int k = golesVisitante - golesLocal;
+        return probabilidadAlMenos(r, k) - probabilidadAlMenos(r, k + 1);
+    }
+
+    public double getProbabilidadVisitante(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        return 1.0 - probabilidadAlMenos(minutosRestantes(minutoSiguiente), golesVisitante - golesLocal);
+    }
+
+    /**
+     * Probabilidad de que el partido termine con un marcador dado desde un estado.
+     * @param minutoSiguiente Próximo minuto por jugar (0 antes del saque inicial)
+     * @param golesLocal Goles actuales del local
+     * @param golesVisitante Goles actuales del visitante
+     * @param finalLocal Goles del local al final
+     * @param finalVisitante Goles del visitante al final
+     */
+    public double getProbabilidadMarcador(int minutoSiguiente, int golesLocal, int golesVisitante,
+                                          int finalLocal, int finalVisitante) {
+        int x = finalLocal - golesLocal;
+        int y = finalVisitante - golesVisitante;
+        if (x < 0 || y < 0 || x > MAX_GOLES || y > MAX_GOLES) {
+            return 0.0;
+        }
+        return faltantes[minutosRestantes(minutoSiguiente)][x * LADO + y];
+    }
+
+    /**
+     * Copia a destino la distribución de goles que faltan desde un minuto:
+     * destino[x * (MAX_GOLES + 1) + y] es la probabilidad de que el local meta x goles
+     * más y el visitante y. No crea objetos.
+     * @param minutoSiguiente Próximo minuto por jugar
+     * @param destino Arreglo de al menos (MAX_GOLES + 1)² posiciones
+     */
+    public void copiarGolesRestantes(int minutoSiguiente, double[] destino) {
+        double[] origen = faltantes[minutosRestantes(minutoSiguiente)];
+        System.arraycopy(origen, 0, destino, 0, origen.length);
+    }
+
+    /**
+     * Primer minuto por jugar que se puede consultar.
+     */
+    public int getMinutoDesde() {
+        return minutoDesde;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el minuto es anterior a getMinutoDesde()
+     */
+    private int minutosRestantes(int minutoSiguiente) {
+        if (minutoSiguiente < minutoDesde) {
+            throw new IllegalArgumentException("La cadena solo cubre desde el minuto " + minutoDesde
+                    + ": " + minutoSiguiente);
+        }
+        return Math.max(0, MINUTOS_PARTIDO - minutoSiguiente);
+    }
+
+    /**
+     * Probabilidad de que (goles local - goles visitante) en r minutos sea al menos k.
+     */
+    private double probabilidadAlMenos(int r, int k) {
+        if (k <= -MAX_GOLES) {
+            return 1.0;
+        }
+        if (k > MAX_GOLES) {
+            return 0.0;
+        }
+        return alMenos[r][k + MAX_GOLES];
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.core;
+
+import org.example.enums.TipoEvento;
+
+/**
+ * Codifica un evento del partido en un solo int, sin crear objetos.
+ *
+ * Distribución de bits:
+ *  0-3   tipo de evento (ordinal de TipoEvento)
+ *  4-11  minuto (0-255)
+ *  12    equipo que protagoniza el evento (0 = local, 1 = visitante)
+ *  13-17 dorsal del jugador protagonista
+ *  18-22 dorsal secundario (portero, defensor o suplente que entra según el evento)
+ *  23-26 resultado del evento (ver constantes RESULTADO_*)
+ *  27-30 dato extra (jugadores disponibles tras una expulsión o número de cambio)
+ */
+public final class CodigoEvento {
+
+    public static final int LOCAL = 0;
+    public static final int VISITANTE = 1;
+
+    // ===== RESULTADOS =====
+
+    // Tiros, saques y fueras de juego
+    public static final int RESULTADO_FALLO = 0;
+    public static final int RESULTADO_EXITO = 1;
+
+    // Tarjeta amarilla
+    public static final int RESULTADO_SIN_TARJETA = 0;
+    public static final int RESULTADO_AMARILLA = 1;
+    public static final int RESULTADO_EXPULSION = 2;
+
+    // Lesión
+    public static final int RESULTADO_SIN_LESION = 0;
+    public static final int RESULTADO_CAMBIO = 1;
+    public static final int RESULTADO_SIN_SUPLENTES = 2;
+    public static final int RESULTADO_SIN_CAMBIOS = 3;
+
+    private CodigoEvento() {
+    }
+
+    public static int codificar(TipoEvento tipo, int minuto, int equipo, int dorsal,
+                                int dorsalSecundario, int resultado, int extra) {
+        return tipo.ordinal()
+                | (minuto & 0xFF) << 4
+                | (equipo & 0x1) << 12
+                | (dorsal & 0x1F) << 13
+                | (dorsalSecundario & 0x1F) << 18
+                | (resultado & 0xF) << 23
+                | (extra & 0xF) << 27;
+    }
+
+    // ===== LECTURA =====
+
+    public static TipoEvento tipo(int codigo) {
+        return TipoEvento.desdeOrdinal(codigo & 0xF);
+    }
+    public static int minuto(int codigo) {
+        return (codigo >>> 4) & 0xFF;
+    }
+    public static int equipo(int codigo) {
+        return (codigo >>> 12) & 0x1;
+    }
+    public static int dorsal(int codigo) {
+        return (codigo >>> 13) & 0x1F;
+    }
+    public static int dorsalSecundario(int codigo) {
+        return (codigo >>> 18) & 0x1F;
+    }
+    public static int resultado(int codigo) {
+        return (codigo >>> 23) & 0xF;
+    }
+    public static int extra(int codigo) {
+        return (codigo >>> 27) & 0xF;
+    }
+
+    /**
+     * Indica si el evento terminó en gol (tiro, penal, tiro libre o esquina exitosos).
+     */
+    public static boolean esGol(int codigo) {
+        if (resultado(codigo) != RESULTADO_EXITO) {
+            return false;
+        }
+        switch (tipo(codigo)) {
+            case TIRO_PUERTA:
+            case PENAL:
+            case TIRO_LIBRE:
+            case TIRO_ESQUINA:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Copa de eliminación directa a partido único, sin interfaz gráfica.
+ * Los empates se resuelven con prórroga y penales (EjecutorPartido.jugarEliminatoria).
+ *
+ * El cuadro se arma en el orden de la lista: si el número de equipos no es potencia
+ * de 2, los primeros equipos pasan la primera ronda sin jugar (un descanso por llave)
+ * hasta completar la siguiente potencia de 2.
+ *
+ * Igual que en Liga, cada partido usa copias de las plantillas y su semilla depende
+ * solo de la semilla de la copa y de su lugar en el cuadro.
+ */
+public class Copa {
+
+    private static final int COPAS_POR_BLOQUE = 64;
+    private static final int SIN_EQUIPO = -1;
+
+    private final Equipos[] plantillas;
+    private final String[] nombres;
+    private final int rondas;
+    // Equipo en cada lugar de la primera ronda (SIN_EQUIPO = descanso del rival)
+    private final int[] cuadro;
+    private final ForkJoinPool pool;
+
+    public Copa(List<Equipos> equipos) {
+        this(equipos, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param equipos Equipos en el orden del cuadro (no se modifican)
+     * @param pool Pool donde se simulan las copas
+     * @throws IllegalArgumentException si hay menos de 2 equipos
+     */
+    public Copa(List<Equipos> equipos, ForkJoinPool pool) {
+        if (equipos.size() < 2) {
+            throw new IllegalArgumentException("Una copa necesita al menos 2 equipos");
+        }
+        this.plantillas = equipos.toArray(new Equipos[0]);
+        this.nombres = new String[plantillas.length];
+        for (int i = 0; i < plantillas.length; i++) {
+            nombres[i] = plantillas[i].getNombre();
+        }
+        this.rondas = 32 - Integer.numberOfLeadingZeros(plantillas.length - 1);
+        this.cuadro = crearCuadro(plantillas.length, 1 << rondas);
+        this.pool = pool;
+    }
+
+    // ===== GETTERS =====
+
+    public int getNumEquipos() {
+        return plantillas.length;
+    }
+
+    public int getNumRondas() {
+        return rondas;
+    }
+
+    public String getNombre(int equipo) {
+        return nombres[equipo];
+    }
+
+    // ===== SIMULACIÓN =====
+
+    /**
+     * Juega una copa completa en el hilo actual.
+     * @param semilla Semilla de la copa
+     * @return Última ronda alcanzada por cada equipo (getNumRondas() = campeón)
+     */
+    public int[] jugarCopa(long semilla) {
+        return jugarCopa(semilla, new EjecutorPartido());
+    }
+
+    /**
+     * Simula muchas copas en paralelo. Cada bloque cuenta en su propia
+     * ProbabilidadesCopa y los conteos se suman al unir las tareas.
+     * @param copas Número de copas a simular
+     * @param semilla Semilla base; la copa número c usa Aleatorio.semillaDerivada(semilla, c)
+     * @return Probabilidad de cada equipo de alcanzar cada ronda
+     */
+    public ProbabilidadesCopa simular(int copas, long semilla) {
+        return SimulacionParalela.ejecutar(pool, copas, COPAS_POR_BLOQUE,
+                Trabajador::new,
+                (trabajador, c) -> trabajador.jugar(Aleatorio.semillaDerivada(semilla, c)),
+                Trabajador::combinar).probabilidades;
+    }
+
+    private int[] jugarCopa(long semilla, EjecutorPartido ejecutor) {
+        int[] alcanzada = new int[plantillas.length];
+        int[] vivos = cuadro.clone();
+        int lugares = vivos.length;
+
+        for (int ronda = 0; ronda < rondas; ronda++) {
+            for (int k = 0; k < lugares / 2; k++) {
+                int local = vivos[2 * k];
+                int visitante = vivos[2 * k + 1];
+                int ganador;
+
+                if (visitante == SIN_EQUIPO) {
+                    ganador = local;
+                } else if (local == SIN_EQUIPO) {
+                    ganador = visitante;
+                } else {
+                    long semillaPartido = Aleatorio.semillaDerivada(semilla, (long) ronda * cuadro.length + k);
+                    ResultadoPartido resultado = ejecutor.jugarEliminatoria(
+                            new Equipos(plantillas[local]), new Equipos(plantillas[visitante]), semillaPartido);
+                    ganador = "Local".equals(resultado.getClasificado()) ? local : visitante;
+                }
+
+                if (ganador != SIN_EQUIPO) {
+                    alcanzada[ganador] = ronda + 1;
+                }
+                vivos[k] = ganador;
+            }
+            lugares /= 2;
+        }
+        return alcanzada;
+    }
+
+    /**
+     * Estado de un bloque de copas: su propio ejecutor y sus conteos.
+     */
+    private class Trabajador {
+        private final EjecutorPartido ejecutor = new EjecutorPartido();
+        private final ProbabilidadesCopa probabilidades = new ProbabilidadesCopa(nombres, rondas);
+
+        void jugar(long semilla) {
+            probabilidades.registrar(jugarCopa(semilla, ejecutor));
+        }
+
+        Trabajador combinar(Trabajador otro) {
+            probabilidades.combinar(otro.probabilidades);
+            return this;
+        }
+    }
+
+    /**
+     * Reparte los equipos en los lugares del cuadro. Los descansos van emparejados
+     * con los primeros equipos, así nunca se enfrentan dos descansos.
+     */
+    private static int[] crearCuadro(int numEquipos, int lugares) {
+        int[] cuadro = new int[lugares];
+        Arrays.fill(cuadro, SIN_EQUIPO);
+        int descansos = lugares - numEquipos;
+        int equipo = 0;
+        for (int k = 0; k < lugares / 2; k++) {
+            cuadro[2 * k] = equipo++;
+            if (k >= descansos) {
+                cuadro[2 * k + 1] = equipo++;
+            }
+        }
+        return cuadro;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.core;
+
+/**
+ * Histograma de marcadores finales obtenido al simular muchos partidos.
+ * Cada hilo llena su propia distribución y al final se combinan sumando,
+ * así que no hace falta sincronizar nada mientras se simula.
+ *
+ * Los marcadores con más de MAX_GOLES goles se acumulan en la última casilla.
+ */
+public class DistribucionResultados {
+
+    public static final int MAX_GOLES = 15;
+    private static final int LADO = MAX_GOLES + 1;
+
+    private final long[] marcadores = new long[LADO * LADO];
+    private long victoriasLocal;
+    private long empates;
+    private long victoriasVisitante;
+    private long total;
+
+    public DistribucionResultados() {
+    }
+
+    /**
+     * Registra el marcador final de un partido.
+     * @param golesLocal Goles del equipo local
+     * @param golesVisitante Goles del equipo visitante
+     */
+    public void registrar(int golesLocal, int golesVisitante) {
+        if (golesLocal > golesVisitante) {
+            victoriasLocal++;
+        } else if (golesLocal == golesVisitante) {
+            empates++;
+        } else {
+            victoriasVisitante++;
+        }
+        marcadores[indice(golesLocal, golesVisitante)]++;
+        total++;
+    }
+
+    /**
+     * Suma en esta distribución los conteos de otra.
+     * @param otra Distribución a sumar
+     * @return Esta misma distribución, para encadenar
+     */
+    public DistribucionResultados combinar(DistribucionResultados otra) {
+        for (int i = 0; i < marcadores.length; i++) {
+            marcadores[i] += otra.marcadores[i];
+        }
+        victoriasLocal += otra.victoriasLocal;
+        empates += otra.empates;
+        victoriasVisitante += otra.victoriasVisitante;
+        total += otra.total;
+        return this;
+    }
+
+    // ===== GETTERS =====
+
+    public long getTotal() {
+        return total;
+    }
+    public long getVictoriasLocal() {
+        return victoriasLocal;
+    }
+    public long getEmpates() {
+        return empates;
+    }
+    public long getVictoriasVisitante() {
+        return victoriasVisitante;
+    }
+
+    public double getProbabilidadLocal() {
+        return proporcion(victoriasLocal);
+    }
+    public double getProbabilidadEmpate() {
+        return proporcion(empates);
+    }
+    public double getProbabilidadVisitante() {
+        return proporcion(victoriasVisitante);
+    }
+
+    /**
+     * Cantidad de partidos que terminaron con el marcador indicado.
+     * @param golesLocal Goles del local (MAX_GOLES incluye "o más")
+     * @param golesVisitante Goles del visitante (MAX_GOLES incluye "o más")
+     * @return Número de partidos con ese marcador
+     */
+    public long getConteoMarcador(int golesLocal, int golesVisitante) {
+        return marcadores[indice(golesLocal, golesVisitante)];
+    }
+
+    public double getProbabilidadMarcador(int golesLocal, int golesVisitante) {
+        return proporcion(getConteoMarcador(golesLocal, golesVisitante));
+    }
+
+    /**
+     * Promedio de goles del local. Los marcadores agrupados en la última casilla
+     * cuentan como MAX_GOLES.
+     */
+    public double getGolesPromedioLocal() {
+        long suma = 0;
+        for (int i = 0; i < marcadores.length; i++) {
+            suma += (long) (i / LADO) * marcadores[i];
+        }
+        return proporcion(suma);
+    }
+
+    public double getGolesPromedioVisitante() {
+        long suma = 0;
+        for (int i = 0; i < marcadores.length; i++) {
+            suma += (long) (i % LADO) * marcadores[i];
+        }
+        return proporcion(suma);
+    }
+
+    private double proporcion(long conteo) {
+        return total == 0 ? 0.0 : (double) conteo / total;
+    }
+
+    private static int indice(int golesLocal, int golesVisitante) {
+        int l = Math.min(Math.max(golesLocal, 0), MAX_GOLES);
+        int v = Math.min(Math.max(golesVisitante, 0), MAX_GOLES);
+        return l * LADO + v;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Local %.3f | Empate %.3f | Visita %.3f (%d partidos)",
+                getProbabilidadLocal(), getProbabilidadEmpate(), getProbabilidadVisitante(), total);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+import org.example.enums.ModoSimulacion;
+
+/**
+ * Ejecuta partidos completos sin interfaz gráfica.
+ * Juega los 90 minutos con Partido.jugarHasta, sin Timer ni clases de Swing, y
+ * devuelve el resultado como un ResultadoPartido.
+ *
+ * Los minutos se juegan sin generar texto: los eventos quedan como códigos en un
+ * RegistroEventos que se reutiliza entre partidos. Por defecto se salta directo de un
+ * evento al siguiente (ModoSimulacion.POR_EVENTO); con ModoSimulacion.POR_MINUTO se
+ * juega cada minuto con Partido.simularMinuto.
+ *
+ * NOTA: Los equipos se modifican durante el partido (goles, tarjetas, cambios).
+ * Si se quieren reutilizar, hay que pasar equipos nuevos en cada llamada.
+ * Un ejecutor no es seguro entre hilos; se usa uno por hilo.
+ */
+public class EjecutorPartido {
+
+    // Igual que la ventana del simulador: se juegan los minutos 0 a 90 inclusive
+    public static final int MINUTOS = 90;
+    // Último minuto de la prórroga en una eliminatoria
+    public static final int MINUTOS_PRORROGA = 120;
+
+    private final RegistroEventos registro = new RegistroEventos();
+    private ModoSimulacion modo = ModoSimulacion.POR_EVENTO;
+
+    public EjecutorPartido() {
+    }
+
+    /**
+     * Eventos del último partido jugado. Se sobrescribe en el siguiente partido.
+     * @return Registro con los códigos de evento
+     */
+    public RegistroEventos getRegistro() {
+        return registro;
+    }
+
+    public ModoSimulacion getModo() {
+        return modo;
+    }
+
+    public void setModo(ModoSimulacion modo) {
+        this.modo = modo;
+    }
+
+    /**
+     * Juega un partido completo entre dos equipos.
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @return Resultado final del partido
+     */
+    public ResultadoPartido jugar(Equipos local, Equipos visitante) {
+        return jugar(new Partido(local, visitante));
+    }
+
+    /**
+     * Juega un partido completo con una semilla fija (reproducible).
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @param semilla Semilla del partido
+     * @return Resultado final del partido
+     */
+    public ResultadoPartido jugar(Equipos local, Equipos visitante, long semilla) {
+        return jugar(new Partido(local, visitante, semilla));
+    }
+
+    /**
+     * Juega todos los minutos de un partido ya creado.
+     * @param partido Partido a jugar
+     * @return Resultado final del partido
+     */
+    public ResultadoPartido jugar(Partido partido) {
+        registro.limpiar();
+        partido.setRegistro(registro);
+
+        partido.jugarHasta(MINUTOS, modo);
+
+        partido.setRegistro(null);
+        return crearResultado(partido.getEquipoLocal(), partido.getEquipoVisitante());
+    }
+
+    /**
+     * Juega un partido de eliminación directa con una semilla fija (reproducible).
+     * @see #jugarEliminatoria(Partido)
+     */
+    public ResultadoPartido jugarEliminatoria(Equipos local, Equipos visitante, long semilla) {
+        return jugarEliminatoria(new Partido(local, visitante, semilla));
+    }
+
+    /**
+     * Juega un partido que necesita ganador: los 90 minutos, la prórroga (minutos 91
+     * a 120) si hay empate y la tanda de penales si el empate sigue.
+     * @param partido Partido a jugar
+     * @return Resultado final; getClasificado() dice quién avanza
+     */
+    public ResultadoPartido jugarEliminatoria(Partido partido) {
+        registro.limpiar();
+        partido.setRegistro(registro);
+
+        partido.jugarHasta(MINUTOS, modo);
+        boolean prorroga = empatado(partido);
+        if (prorroga) {
+            partido.jugarHasta(MINUTOS_PRORROGA, modo);
+        }
+        if (prorroga && empatado(partido)) {
+            partido.tandaPenales();
+        }
+
+        partido.setRegistro(null);
+        ResultadoPartido resultado = crearResultado(partido.getEquipoLocal(), partido.getEquipoVisitante());
+        resultado.registrarEliminatoria(prorroga, partido.getPenalesLocal(), partido.getPenalesVisitante());
+        return resultado;
+    }
+
+    private static boolean empatado(Partido partido) {
+        return partido.getEquipoLocal().getGoles() == partido.getEquipoVisitante().getGoles();
+    }
+
+    private ResultadoPartido crearResultado(Equipos local, Equipos visitante) {
+        return new ResultadoPartido(
+                local.getGoles(), visitante.getGoles(),
+                contarAmarillas(local), contarAmarillas(visitante),
+                contarRojas(local), contarRojas(visitante),
+                local.getCambiosRealizados(), visitante.getCambiosRealizados());
+    }
+
+    private int contarAmarillas(Equipos equipo) {
+        int total = equipo.getPortero().getTarjetasAmarillas();
+        for (Jugador j : equipo.getTitulares()) {
+            total += j.getTarjetasAmarillas();
+        }
+        for (Jugador j : equipo.getSuplentes()) {
+            total += j.getTarjetasAmarillas();
+        }
+        return total;
+    }
+
+    private int contarRojas(Equipos equipo) {
+        int total = equipo.getPortero().getTarjetasRojas();
+        for (Jugador j : equipo.getTitulares()) {
+            total += j.getTarjetasRojas();
+        }
+        for (Jugador j : equipo.getSuplentes()) {
+            total += j.getTarjetasRojas();
+        }
+        return total;
+    }
+}
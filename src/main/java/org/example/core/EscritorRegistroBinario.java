@@ -0,0 +1,125 @@
+package org.example.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escribe eventos de muchos partidos en un archivo binario compacto.
+ *
+ * Formato (little endian):
+ *   cabecera de TAMANO_CABECERA bytes: MAGIA (int), VERSION (int), número de registros (long)
+ *   registros de TAMANO_REGISTRO bytes: número de partido (int), código de evento (int)
+ * El código es el mismo de CodigoEvento, así que cada registro ya trae minuto, tipo,
+ * equipo, dorsales y resultado.
+ *
+ * Los registros se juntan en un ByteBuffer directo y se pasan al FileChannel por bloques,
+ * sin objetos intermedios ni texto. El número de registros de la cabecera se escribe al
+ * cerrar; si el programa se corta antes, LectorRegistroBinario lo deduce del tamaño.
+ *
+ * NOTA: No es seguro entre hilos. Con simulaciones en paralelo, cada hilo puede escribir
+ * su propio archivo o pasar sus registros a un solo hilo escritor.
+ */
+public class EscritorRegistroBinario implements AutoCloseable {
+
+    public static final int MAGIA = 0x4D495353; // "SSIM" en little endian
+    public static final int VERSION = 1;
+    public static final int TAMANO_CABECERA = 16;
+    public static final int TAMANO_REGISTRO = 8;
+
+    private static final int TAMANO_BUFFER = 1 << 20;
+
+    private final FileChannel canal;
+    private final ByteBuffer buffer;
+    private long registros;
+    private boolean cerrado;
+
+    /**
+     * Crea el archivo (o lo reemplaza si ya existe) y escribe la cabecera.
+     * @param archivo Ruta del archivo
+     * @throws IOException si no se puede crear el archivo
+     */
+    public EscritorRegistroBinario(Path archivo) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(TAMANO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            escribirCabecera(0);
+            canal.position(TAMANO_CABECERA);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Agrega un evento.
+     * @param partido Número de partido
+     * @param codigo Código de evento (ver CodigoEvento)
+     * @throws IOException si falla la escritura
+     */
+    public void escribir(int partido, int codigo) throws IOException {
+        if (buffer.remaining() < TAMANO_REGISTRO) {
+            vaciar();
+        }
+        buffer.putInt(partido).putInt(codigo);
+        registros++;
+    }
+
+    /**
+     * Agrega todos los eventos de un partido.
+     * @param partido Número de partido
+     * @param registro Eventos del partido
+     * @throws IOException si falla la escritura
+     */
+    public void escribir(int partido, RegistroEventos registro) throws IOException {
+        for (int i = 0; i < registro.getTamano(); i++) {
+            escribir(partido, registro.getCodigo(i));
+        }
+    }
+
+    public long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * Pasa al archivo los registros pendientes del buffer.
+     * @throws IOException si falla la escritura
+     */
+    public void vaciar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Vacía el buffer, escribe el número de registros en la cabecera y cierra el archivo.
+     */
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            vaciar();
+            escribirCabecera(registros);
+        } finally {
+            canal.close();
+        }
+    }
+
+    private void escribirCabecera(long numRegistros) throws IOException {
+        ByteBuffer cabecera = ByteBuffer.allocate(TAMANO_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+        cabecera.putInt(MAGIA).putInt(VERSION).putLong(numRegistros).flip();
+        long posicion = 0;
+        while (cabecera.hasRemaining()) {
+            posicion += canal.write(cabecera, posicion);
+        }
+    }
+}
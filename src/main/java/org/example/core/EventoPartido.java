@@ -0,0 +1,59 @@
+package org.example.core;
+
+import org.example.enums.TipoEvento;
+
+/**
+ * Evento publicado por TransmisionPartido: el código del evento (ver CodigoEvento)
+ * junto con el marcador justo después de resolverlo. Es inmutable, así que el mismo
+ * objeto se entrega a todos los suscriptores.
+ */
+public final class EventoPartido {
+
+    private final int codigo;
+    private final int golesLocal;
+    private final int golesVisitante;
+
+    public EventoPartido(int codigo, int golesLocal, int golesVisitante) {
+        this.codigo = codigo;
+        this.golesLocal = golesLocal;
+        this.golesVisitante = golesVisitante;
+    }
+
+    // ===== GETTERS =====
+
+    public int getCodigo() {
+        return codigo;
+    }
+
+    public TipoEvento getTipo() {
+        return CodigoEvento.tipo(codigo);
+    }
+
+    public int getMinuto() {
+        return CodigoEvento.minuto(codigo);
+    }
+
+    /**
+     * @return CodigoEvento.LOCAL o CodigoEvento.VISITANTE
+     */
+    public int getEquipo() {
+        return CodigoEvento.equipo(codigo);
+    }
+
+    public boolean isGol() {
+        return CodigoEvento.esGol(codigo);
+    }
+
+    public int getGolesLocal() {
+        return golesLocal;
+    }
+
+    public int getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    @Override
+    public String toString() {
+        return "minuto " + getMinuto() + ": " + getTipo() + " (" + golesLocal + " - " + golesVisitante + ")";
+    }
+}
@@ -2,7 +2,7 @@ package org.example.core;
 
 import org.example.entidades.Portero;
 import org.example.entidades.Jugador;
-import java.util.Random;
+import org.example.util.Aleatorio;
 
 /**
  * Gestiona la resolución lógica de los eventos del partido.
@@ -11,7 +11,10 @@ import java.util.Random;
  */
 public class Eventos {
 
-    private final Random random = new Random();
+    private final Aleatorio random;
+
+    // Si es true se usan las probabilidades precalculadas de TablasEventos
+    private boolean usarTablas = true;
 
     // FACTOR DE DIFICULTAD DEL PORTERO
     // Cuanto más alto, más difícil es meter gol.
@@ -19,6 +22,31 @@ public class Eventos {
     private static final double PESO_PORTERO = 3.5;
 
     public Eventos() {
+        this(new Aleatorio());
+    }
+
+    /**
+     * Constructor con el generador del partido.
+     * Partido y Eventos comparten el mismo generador para que todo el partido
+     * dependa de una sola semilla.
+     * @param random Generador del partido
+     */
+    public Eventos(Aleatorio random) {
+        this.random = random;
+    }
+
+    /**
+     * Elige entre las tablas precalculadas (por defecto) o el cálculo directo
+     * con las fórmulas. Ambos dan la misma distribución de resultados; el cálculo
+     * directo se conserva para comparar rendimiento.
+     * @param usarTablas true para usar TablasEventos
+     */
+    public void setUsarTablas(boolean usarTablas) {
+        this.usarTablas = usarTablas;
+    }
+
+    public boolean isUsarTablas() {
+        return usarTablas;
     }
 
     // ===== EVENTOS DE GOL =====
@@ -28,6 +56,10 @@ public class Eventos {
      * El portero usa sus reflejos multiplicados por el PESO_PORTERO.
      */
     public boolean tiroPuerta(Jugador atacante, Portero portero) {
+        if (usarTablas) {
+            return random.siguienteDouble() <
+                    TablasEventos.tiroPuerta(atacante.getTiro(), atacante.getVelocidad(), portero.getReflejos());
+        }
 
         double potenciaTiro = atacante.getTiro() + (atacante.getVelocidad() * 0.2);
 
@@ -37,9 +69,9 @@ public class Eventos {
         double probabilidadGol = (potenciaTiro / (potenciaTiro + resistenciaPortero)) * 100;
 
         // +/- 5% aleatorio
-        probabilidadGol += (random.nextInt(10) - 5);
+        probabilidadGol += (random.siguienteEntero(10) - 5);
 
-        return random.nextDouble() * 100 < probabilidadGol;
+        return random.siguienteDouble() * 100 < probabilidadGol;
     }
 
     /**
@@ -48,6 +80,10 @@ public class Eventos {
      * El factor del portero se reduce porque el tiro es a quemarropa.
      */
     public boolean penal(Jugador tirador, Portero portero) {
+        if (usarTablas) {
+            return random.siguienteDouble() < TablasEventos.penal(tirador.getTiro(), portero.getReflejos());
+        }
+
         // En penal, el tiro vale x4
         double potenciaTiro = tirador.getTiro() * 4.0;
 
@@ -60,7 +96,7 @@ public class Eventos {
         if (probabilidadGol > 90) probabilidadGol = 90;
         if (probabilidadGol < 50) probabilidadGol = 50;
 
-        return random.nextDouble() * 100 < probabilidadGol;
+        return random.siguienteDouble() * 100 < probabilidadGol;
     }
 
     /**
@@ -69,17 +105,29 @@ public class Eventos {
      * Si no, es un centro que depende del PASE.
      */
     public boolean tiroLibre(Jugador ejecutor, Portero portero) {
+        if (usarTablas) {
+            double prob;
+            if (ejecutor.getTiro() > 85) {
+                prob = TablasEventos.tiroLibreDirecto(ejecutor.getTiro(), portero.getReflejos());
+            } else {
+                // centro bueno (pase / 100) y luego tiro a puerta
+                prob = ejecutor.getPase() * 0.01 *
+                        TablasEventos.tiroPuerta(ejecutor.getTiro(), ejecutor.getVelocidad(), portero.getReflejos());
+            }
+            return random.siguienteDouble() < prob;
+        }
+
         if (ejecutor.getTiro() > 85) {
             // bono de +10 al tiro para tiros potentes
             double potencia = ejecutor.getTiro() + 10;
             double resistencia = portero.getReflejos() * PESO_PORTERO;
             double prob = (potencia / (potencia + resistencia)) * 100;
-            return random.nextDouble() * 100 < prob;
+            return random.siguienteDouble() * 100 < prob;
         }
 
         // Si el pase es malo, el portero lo atrapa fácil
         int calidadCentro = ejecutor.getPase();
-        boolean centroBueno = random.nextInt(100) < calidadCentro;
+        boolean centroBueno = random.siguienteEntero(100) < calidadCentro;
 
         if (!centroBueno) return false; // El centro se fue fuera
 
@@ -94,15 +142,21 @@ public class Eventos {
      * 3. Si gana atacante, remata de cabeza (Tiro vs Reflejos).
      */
     public boolean tiroEsquina(Jugador atacante, Jugador defensor, Portero portero) {
+        if (usarTablas) {
+            double prob = TablasEventos.esquinaSinCorte(portero.getReflejos(), portero.getSaque(), atacante.getPase())
+                    * TablasEventos.esquinaPosicion(atacante.getFisico(), defensor.getFisico(), defensor.getDefensa())
+                    * TablasEventos.esquinaCabezazo(atacante.getTiro(), portero.getReflejos());
+            return random.siguienteDouble() < prob;
+        }
 
         // Asumimos que "Saque" del portero también implica su capacidad de salir jugando
         double capacidadSalida = (portero.getReflejos() + portero.getSaque()) / 2.0;
         double calidadCentro = atacante.getPase();
 
         // Si el portero es valiente, sale a cortar (50% de las veces intenta salir)
-        if (random.nextBoolean()) {
+        if (random.siguienteBooleano()) {
             double probCortar = (capacidadSalida / (capacidadSalida + calidadCentro)) * 100;
-            if (random.nextDouble() * 100 < probCortar) {
+            if (random.siguienteDouble() * 100 < probCortar) {
                 return false; // El portero atrapó el centro en el aire
             }
         }
@@ -115,7 +169,7 @@ public class Eventos {
         // El defensor tiene ventaja por posición (sumamos defensa)
         double probGanarPosicion = (double) fuerzaAtacante / (fuerzaAtacante + fuerzaDefensor) * 100;
 
-        if (random.nextDouble() * 100 > probGanarPosicion) {
+        if (random.siguienteDouble() * 100 > probGanarPosicion) {
             return false; // Despejó el defensa
         }
 
@@ -125,19 +179,24 @@ public class Eventos {
 
         double probGol = (potenciaCabezazo / (potenciaCabezazo + resistenciaPortero)) * 100;
 
-        return random.nextDouble() * 100 < probGol;
+        return random.siguienteDouble() * 100 < probGol;
     }
 
     // ===== EVENTOS DE JUEGO  =====
 
     public boolean saqueBanda(Jugador ejecutor, Jugador defensor) {
+        if (usarTablas) {
+            return random.siguienteDouble() <
+                    TablasEventos.saqueBanda(ejecutor.getPase(), defensor.getDefensa(), defensor.getVelocidad());
+        }
+
         // El pase vs la intercepción (Defensa + Velocidad)
         int ataque = ejecutor.getPase();
         // Reducimos un poco el peso de la defensa para que no roben siempre
         double defensa = (defensor.getDefensa() * 0.7) + (defensor.getVelocidad() * 0.3);
 
         double probabilidad = ataque / (ataque + defensa) * 100;
-        return random.nextDouble() * 100 < probabilidad;
+        return random.siguienteDouble() * 100 < probabilidad;
     }
 
     public boolean fueraDeJuego(Jugador atacante, Jugador defensor) {
@@ -154,17 +213,24 @@ public class Eventos {
             probOffside += 15; // Es rápido pero se adelanta
         }
 
-        return random.nextInt(100) < probOffside;
+        return random.siguienteEntero(100) < probOffside;
     }
 
     // ===== TARJETAS Y LESIONES =====
 
     public String tarjetaAmarilla(Jugador jugador) {
+        if (usarTablas) {
+            if (random.siguienteDouble() < TablasEventos.tarjetaAmarilla(jugador.getDefensa())) {
+                return jugador.agregarTarjetaAmarilla() ? "EXPULSION" : "AMARILLA";
+            }
+            return null;
+        }
+
         // Los jugadores con poca defensa suelen hacer faltas
         // Probabilidad base baja (20% de que la falta sea de tarjeta)
         double probabilidad = (100 - jugador.getDefensa()) / 20.0;
 
-        if (random.nextDouble() * 100 < probabilidad) {
+        if (random.siguienteDouble() * 100 < probabilidad) {
             return jugador.agregarTarjetaAmarilla() ? "EXPULSION" : "AMARILLA";
         }
         return null;
@@ -176,8 +242,12 @@ public class Eventos {
     }
 
     public boolean lesion(Jugador jugador) {
+        if (usarTablas) {
+            return random.siguienteDouble() < TablasEventos.lesion(jugador.getFisico());
+        }
+
         // Jugadores con poco físico mas facil que se lesionen
         double probabilidad = (100 - jugador.getFisico()) / 25.0; // Dividido por 25 para que sea raro
-        return random.nextDouble() * 100 < probabilidad;
+        return random.siguienteDouble() * 100 < probabilidad;
     }
 }
\ No newline at end of file
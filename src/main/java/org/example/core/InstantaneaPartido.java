@@ -0,0 +1,98 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Foto de un partido en curso (equipos, marcador, tarjetas, cambios y minuto) para
+ * simular muchas formas posibles de terminarlo ("¿qué pasa si seguimos desde aquí?").
+ *
+ * La foto es una copia profunda tomada una sola vez; el partido en vivo puede seguir
+ * jugándose sin afectarla. Copiar no es atómico: la foto se toma en el hilo que juega
+ * el partido, o con el partido detenido entre dos minutos. Para un partido de
+ * ServidorPartidos, usar PartidoEnVivo.tomarInstantanea(). Las continuaciones se juegan en paralelo, en bloques de
+ * LotePartidos cargados desde la foto, así que no se copian objetos por continuación.
+ * El resultado sirve para fijar cuotas con GestorMercado.actualizarCuotas(distribucion).
+ */
+public class InstantaneaPartido {
+
+    // Continuaciones por bloque (un LotePartidos por bloque)
+    private static final int CONTINUACIONES_POR_BLOQUE = 512;
+
+    private final Partido estado;
+    private final ForkJoinPool pool;
+
+    /**
+     * Toma la foto usando el pool común de fork/join.
+     * @param partido Partido en curso (no se modifica); ningún otro hilo debe estar jugándolo
+     */
+    public InstantaneaPartido(Partido partido) {
+        this(partido, ForkJoinPool.commonPool());
+    }
+
+    public InstantaneaPartido(Partido partido, ForkJoinPool pool) {
+        this.estado = new Partido(partido);
+        this.pool = pool;
+    }
+
+    // ===== GETTERS =====
+
+    /**
+     * Próximo minuto por jugar en el momento de la foto.
+     */
+    public int getMinutoSiguiente() {
+        return estado.getMinutoSiguiente();
+    }
+
+    public int getGolesLocal() {
+        return estado.getEquipoLocal().getGoles();
+    }
+
+    public int getGolesVisitante() {
+        return estado.getEquipoVisitante().getGoles();
+    }
+
+    // ===== CONTINUACIONES =====
+
+    /**
+     * Una continuación como Partido, para seguirla minuto a minuto (por ejemplo, en la interfaz).
+     * @param semilla Semilla de la continuación
+     * @return Copia nueva del partido que sigue con esa semilla
+     */
+    public Partido continuar(long semilla) {
+        return new Partido(estado, semilla);
+    }
+
+    /**
+     * Juega muchas veces lo que falta del partido (hasta EjecutorPartido.MINUTOS) y
+     * cuenta los marcadores finales. El resultado no depende del tamaño del pool.
+     * @param continuaciones Número de continuaciones
+     * @param semilla Semilla base; la continuación i usa Aleatorio.semillaDerivada(semilla, i)
+     * @return Distribución de marcadores finales
+     */
+    public DistribucionResultados simularResto(int continuaciones, long semilla) {
+        if (continuaciones < 0) {
+            throw new IllegalArgumentException("El número de continuaciones no puede ser negativo");
+        }
+        int bloques = (continuaciones + CONTINUACIONES_POR_BLOQUE - 1) / CONTINUACIONES_POR_BLOQUE;
+        int minutosRestantes = Math.max(0, EjecutorPartido.MINUTOS + 1 - estado.getMinutoSiguiente());
+        Equipos local = estado.getEquipoLocal();
+        Equipos visitante = estado.getEquipoVisitante();
+
+        return SimulacionParalela.ejecutar(pool, bloques, 1, DistribucionResultados::new,
+                (distribucion, bloque) -> {
+                    int primero = bloque * CONTINUACIONES_POR_BLOQUE;
+                    int tamano = Math.min(CONTINUACIONES_POR_BLOQUE, continuaciones - primero);
+
+                    // Los equipos de la foto solo se leen, así que se comparten entre hilos
+                    LotePartidos lote = new LotePartidos(tamano, estado.getSelectorEventos());
+                    lote.cargarTodos(local, visitante, semilla, primero);
+                    lote.jugarMinutos(minutosRestantes);
+                    for (int i = 0; i < tamano; i++) {
+                        distribucion.registrar(lote.getGolesLocal(i), lote.getGolesVisitante(i));
+                    }
+                },
+                DistribucionResultados::combinar);
+    }
+}
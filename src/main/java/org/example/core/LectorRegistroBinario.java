@@ -0,0 +1,123 @@
+package org.example.core;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lee un archivo de EscritorRegistroBinario sin copiarlo: el archivo se mapea en
+ * memoria de solo lectura y cada consulta lee directo del mapa.
+ *
+ * Los archivos de más de 1 GB se mapean en varios tramos, porque un MappedByteBuffer
+ * no puede pasar de 2 GB.
+ */
+public class LectorRegistroBinario implements AutoCloseable {
+
+    // Tamaño de cada tramo mapeado; múltiplo del tamaño de registro
+    private static final long TAMANO_TRAMO = 1L << 30;
+
+    private final FileChannel canal;
+    private final MappedByteBuffer[] tramos;
+    private final long numRegistros;
+
+    /**
+     * Abre y mapea un archivo de registro.
+     * @param archivo Ruta del archivo
+     * @throws IOException si no se puede leer o el archivo no tiene el formato esperado
+     */
+    public LectorRegistroBinario(Path archivo) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        try {
+            long tamano = canal.size();
+            if (tamano < EscritorRegistroBinario.TAMANO_CABECERA) {
+                throw new IOException("Archivo demasiado corto para ser un registro: " + archivo);
+            }
+
+            MappedByteBuffer cabecera = mapear(0, EscritorRegistroBinario.TAMANO_CABECERA);
+            if (cabecera.getInt(0) != EscritorRegistroBinario.MAGIA) {
+                throw new IOException("El archivo no es un registro de partidos: " + archivo);
+            }
+            if (cabecera.getInt(4) != EscritorRegistroBinario.VERSION) {
+                throw new IOException("Versión de registro no soportada: " + cabecera.getInt(4));
+            }
+
+            // Si el escritor no se cerró, la cabecera dice 0 y se cuenta por el tamaño
+            long completos = (tamano - EscritorRegistroBinario.TAMANO_CABECERA) / EscritorRegistroBinario.TAMANO_REGISTRO;
+            long declarados = cabecera.getLong(8);
+            this.numRegistros = declarados > 0 ? Math.min(declarados, completos) : completos;
+
+            long bytes = numRegistros * EscritorRegistroBinario.TAMANO_REGISTRO;
+            int numTramos = (int) ((bytes + TAMANO_TRAMO - 1) / TAMANO_TRAMO);
+            this.tramos = new MappedByteBuffer[numTramos];
+            for (int t = 0; t < numTramos; t++) {
+                long inicio = t * TAMANO_TRAMO;
+                tramos[t] = mapear(EscritorRegistroBinario.TAMANO_CABECERA + inicio,
+                        Math.min(TAMANO_TRAMO, bytes - inicio));
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer mapear(long posicion, long tamano) throws IOException {
+        MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, posicion, tamano);
+        mapa.order(ByteOrder.LITTLE_ENDIAN);
+        return mapa;
+    }
+
+    // ===== CONSULTAS =====
+
+    public long getNumRegistros() {
+        return numRegistros;
+    }
+
+    /**
+     * Número de partido del registro indicado.
+     * @param indice Índice del registro (0 a getNumRegistros() - 1)
+     */
+    public int getPartido(long indice) {
+        return leerEntero(indice, 0);
+    }
+
+    /**
+     * Código de evento del registro indicado (ver CodigoEvento).
+     * @param indice Índice del registro (0 a getNumRegistros() - 1)
+     */
+    public int getCodigo(long indice) {
+        return leerEntero(indice, 4);
+    }
+
+    /**
+     * Copia al registro los eventos consecutivos de un partido, empezando en desde.
+     * Sirve para volver a narrar un partido con NarradorPartido.
+     * @param desde Índice del primer registro del partido
+     * @param destino Registro donde se agregan los códigos (no se limpia)
+     * @return Índice del primer registro que ya no es de ese partido
+     */
+    public long leerPartido(long desde, RegistroEventos destino) {
+        int partido = getPartido(desde);
+        long i = desde;
+        while (i < numRegistros && getPartido(i) == partido) {
+            destino.agregar(getCodigo(i));
+            i++;
+        }
+        return i;
+    }
+
+    private int leerEntero(long indice, int desplazamiento) {
+        if (indice < 0 || indice >= numRegistros) {
+            throw new IndexOutOfBoundsException("Registro " + indice + " fuera del archivo (" + numRegistros + ")");
+        }
+        long posicion = indice * EscritorRegistroBinario.TAMANO_REGISTRO + desplazamiento;
+        return tramos[(int) (posicion / TAMANO_TRAMO)].getInt((int) (posicion % TAMANO_TRAMO));
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
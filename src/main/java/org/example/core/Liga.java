@@ -0,0 +1,242 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.nombres.EquiposNombres;
+import org.example.util.Aleatorio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Liga a doble vuelta (todos contra todos, ida y vuelta) sin interfaz gráfica.
+ * El calendario se arma con el método del círculo: en cada jornada juegan todos
+ * los equipos (o descansa uno si son impares) y la vuelta repite la ida con la
+ * localía invertida.
+ *
+ * Cada partido se juega con copias de los equipos plantilla, así que las plantillas
+ * no se modifican. La semilla de cada partido depende solo de la semilla de la
+ * temporada y del número de partido, por eso el resultado no depende de los hilos.
+ */
+public class Liga {
+
+    public static final int DESCENSOS_POR_DEFECTO = 3;
+
+    // Temporadas por bloque al simular muchas temporadas en paralelo
+    private static final int TEMPORADAS_POR_BLOQUE = 16;
+
+    private final Equipos[] plantillas;
+    private final String[] nombres;
+    // Cada jornada: [local0, visitante0, local1, visitante1, ...]
+    private final int[][] jornadas;
+    private final ForkJoinPool pool;
+    private int descensos = DESCENSOS_POR_DEFECTO;
+
+    /**
+     * Constructor que usa el pool común de fork/join.
+     * @param equipos Equipos de la liga (no se modifican)
+     */
+    public Liga(List<Equipos> equipos) {
+        this(equipos, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param equipos Equipos de la liga (no se modifican)
+     * @param pool Pool donde se juegan los partidos
+     * @throws IllegalArgumentException si hay menos de 2 equipos
+     */
+    public Liga(List<Equipos> equipos, ForkJoinPool pool) {
+        if (equipos.size() < 2) {
+            throw new IllegalArgumentException("Una liga necesita al menos 2 equipos");
+        }
+        this.plantillas = equipos.toArray(new Equipos[0]);
+        this.nombres = new String[plantillas.length];
+        for (int i = 0; i < plantillas.length; i++) {
+            nombres[i] = plantillas[i].getNombre();
+        }
+        this.jornadas = crearCalendario(plantillas.length);
+        this.pool = pool;
+    }
+
+    /**
+     * Crea un equipo por cada nombre de EquiposNombres, con plantillas reproducibles.
+     * @param semilla Semilla para los jugadores de todos los equipos
+     * @return Lista de equipos en el orden de EquiposNombres.getEquipos()
+     */
+    public static List<Equipos> crearEquiposPredeterminados(long semilla) {
+        String[] nombresEquipos = EquiposNombres.getEquipos();
+        List<Equipos> equipos = new ArrayList<>(nombresEquipos.length);
+        for (int i = 0; i < nombresEquipos.length; i++) {
+            equipos.add(new Equipos(nombresEquipos[i], new Aleatorio(Aleatorio.semillaDerivada(semilla, i))));
+        }
+        return equipos;
+    }
+
+    // ===== GETTERS Y SETTERS =====
+
+    public int getNumEquipos() {
+        return plantillas.length;
+    }
+
+    public String getNombre(int equipo) {
+        return nombres[equipo];
+    }
+
+    public int getNumJornadas() {
+        return jornadas.length;
+    }
+
+    /**
+     * Partidos de una jornada como pares [local, visitante] de índices de equipo.
+     * @param jornada Número de jornada (0 a getNumJornadas() - 1)
+     * @return Copia del arreglo de la jornada
+     */
+    public int[] getPartidosJornada(int jornada) {
+        return jornadas[jornada].clone();
+    }
+
+    public int getDescensos() {
+        return descensos;
+    }
+
+    public void setDescensos(int descensos) {
+        if (descensos < 0 || descensos >= plantillas.length) {
+            throw new IllegalArgumentException("Número de descensos inválido: " + descensos);
+        }
+        this.descensos = descensos;
+    }
+
+    // ===== SIMULACIÓN =====
+
+    /**
+     * Juega una temporada completa. Las jornadas van en orden y los partidos de
+     * cada jornada se juegan en paralelo.
+     * @param semilla Semilla de la temporada
+     * @return Tabla final
+     */
+    public TablaLiga jugarTemporada(long semilla) {
+        TablaLiga tabla = new TablaLiga(plantillas.length);
+        int primerPartido = 0;
+
+        for (int[] jornada : jornadas) {
+            int partidos = jornada.length / 2;
+            int primero = primerPartido;
+            // Cada partido escribe solo sus dos casillas; el join de fork/join
+            // hace visibles los resultados antes de leerlos
+            int[] goles = new int[jornada.length];
+
+            SimulacionParalela.ejecutar(pool, partidos, 1, EjecutorPartido::new,
+                    (ejecutor, k) -> {
+                        ResultadoPartido resultado = jugarPartido(ejecutor, jornada[2 * k], jornada[2 * k + 1],
+                                Aleatorio.semillaDerivada(semilla, primero + k));
+                        goles[2 * k] = resultado.getGolesLocal();
+                        goles[2 * k + 1] = resultado.getGolesVisitante();
+                    },
+                    (a, b) -> a);
+
+            for (int k = 0; k < partidos; k++) {
+                tabla.registrar(jornada[2 * k], jornada[2 * k + 1], goles[2 * k], goles[2 * k + 1]);
+            }
+            primerPartido += partidos;
+        }
+        return tabla;
+    }
+
+    /**
+     * Simula muchas temporadas en paralelo y cuenta la posición final de cada equipo.
+     * La temporada número t usa la semilla Aleatorio.semillaDerivada(semilla, t) y da
+     * la misma tabla que jugarTemporada con esa semilla.
+     * @param temporadas Número de temporadas
+     * @param semilla Semilla base
+     * @return Probabilidades de título, descenso y de cada posición
+     */
+    public ProbabilidadesLiga simularTemporadas(int temporadas, long semilla) {
+        return SimulacionParalela.ejecutar(pool, temporadas, TEMPORADAS_POR_BLOQUE,
+                Trabajador::new,
+                (trabajador, t) -> trabajador.jugar(Aleatorio.semillaDerivada(semilla, t)),
+                Trabajador::combinar).probabilidades;
+    }
+
+    /**
+     * Temporada completa en el hilo actual, con las mismas semillas que jugarTemporada.
+     */
+    private TablaLiga jugarTemporadaSecuencial(long semilla, EjecutorPartido ejecutor) {
+        TablaLiga tabla = new TablaLiga(plantillas.length);
+        int indice = 0;
+        for (int[] jornada : jornadas) {
+            for (int k = 0; k < jornada.length; k += 2) {
+                ResultadoPartido resultado = jugarPartido(ejecutor, jornada[k], jornada[k + 1],
+                        Aleatorio.semillaDerivada(semilla, indice++));
+                tabla.registrar(jornada[k], jornada[k + 1], resultado.getGolesLocal(), resultado.getGolesVisitante());
+            }
+        }
+        return tabla;
+    }
+
+    private ResultadoPartido jugarPartido(EjecutorPartido ejecutor, int local, int visitante, long semilla) {
+        return ejecutor.jugar(new Equipos(plantillas[local]), new Equipos(plantillas[visitante]), semilla);
+    }
+
+    /**
+     * Estado de un bloque de temporadas: su propio ejecutor y sus conteos.
+     */
+    private class Trabajador {
+        private final EjecutorPartido ejecutor = new EjecutorPartido();
+        private final ProbabilidadesLiga probabilidades = new ProbabilidadesLiga(nombres, descensos);
+
+        void jugar(long semilla) {
+            probabilidades.registrar(jugarTemporadaSecuencial(semilla, ejecutor).getClasificacion());
+        }
+
+        Trabajador combinar(Trabajador otro) {
+            probabilidades.combinar(otro.probabilidades);
+            return this;
+        }
+    }
+
+    // ===== CALENDARIO =====
+
+    /**
+     * Calendario a doble vuelta con el método del círculo.
+     * El equipo 0 queda fijo y los demás rotan una posición por jornada; la localía
+     * se alterna para que nadie juegue muchas veces seguidas en casa.
+     */
+    private static int[][] crearCalendario(int numEquipos) {
+        // Con equipos impares se agrega un lugar vacío: quien lo enfrenta descansa
+        int lugares = numEquipos % 2 == 0 ? numEquipos : numEquipos + 1;
+        int rondas = lugares - 1;
+        int[] rueda = new int[lugares];
+        for (int i = 0; i < lugares; i++) {
+            rueda[i] = i;
+        }
+
+        int[][] calendario = new int[2 * rondas][];
+        for (int ronda = 0; ronda < rondas; ronda++) {
+            int[] ida = new int[2 * (numEquipos / 2)];
+            int[] vuelta = new int[ida.length];
+            int k = 0;
+
+            for (int i = 0; i < lugares / 2; i++) {
+                int a = rueda[i];
+                int b = rueda[lugares - 1 - i];
+                if (a >= numEquipos || b >= numEquipos) {
+                    continue;
+                }
+                boolean casaA = i == 0 ? ronda % 2 == 0 : i % 2 == 0;
+                ida[k] = casaA ? a : b;
+                ida[k + 1] = casaA ? b : a;
+                vuelta[k] = ida[k + 1];
+                vuelta[k + 1] = ida[k];
+                k += 2;
+            }
+            calendario[ronda] = ida;
+            calendario[ronda + rondas] = vuelta;
+
+            // Rotar todos menos el primero
+            int ultimo = rueda[lugares - 1];
+            System.arraycopy(rueda, 1, rueda, 2, lugares - 2);
+            rueda[1] = ultimo;
+        }
+        return calendario;
+    }
+}
@@ -0,0 +1,577 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+import org.example.entidades.Portero;
+import org.example.enums.TipoEvento;
+import org.example.util.Aleatorio;
+
+import java.util.Arrays;
+
+/**
+ * Estado de muchos partidos guardado por columnas (un arreglo por estadística)
+ * en lugar de un grafo de Equipos y Jugador por partido.
+ * Todos los partidos del lote avanzan juntos, minuto a minuto, leyendo arreglos
+ * contiguos de byte y long sin crear objetos.
+ *
+ * Cada equipo tiene JUGADORES_POR_EQUIPO ranuras: las 10 primeras son los titulares
+ * con los que se cargó y las siguientes los suplentes. El estado de cada jugador
+ * (en cancha, tarjetas, lesión) se guarda como bits en un solo byte.
+ *
+ * Los eventos se resuelven con SelectorEventos y TablasEventos y se sortean en el mismo
+ * orden que Partido en modo POR_MINUTO, así que un partido del lote cargado con equipos
+ * recién creados y una semilla da el mismo resultado que Partido con esa semilla.
+ *
+ * Los tiros a puerta de cada minuto se pueden juntar y resolver todos a la vez con
+ * ResolucionLote (ver setResolucionPorLote). El número aleatorio de cada tiro se sortea
+ * en su momento, así que esto no cambia los resultados.
+ *
+ * Para mostrar un partido en la interfaz se usa volcar(), que copia goles, tarjetas,
+ * lesiones y cambios de vuelta a los objetos Equipos.
+ *
+ * NOTA: No es seguro entre hilos; cada hilo usa su propio lote.
+ */
+public class LotePartidos {
+
+    public static final int MAX_TITULARES = 10;
+    public static final int MAX_SUPLENTES = 5;
+    public static final int JUGADORES_POR_EQUIPO = MAX_TITULARES + MAX_SUPLENTES;
+    private static final int MAX_CAMBIOS = 5;
+
+    // Bits de estado de cada jugador
+    static final int EN_CAMPO = 1;
+    static final int AMARILLA = 1 << 1;
+    static final int DOBLE_AMARILLA = 1 << 2;   // segunda amarilla (cuenta como roja)
+    static final int ROJA = 1 << 3;             // roja directa
+    static final int LESIONADO = 1 << 4;
+    private static final int EXPULSADO = DOBLE_AMARILLA | ROJA;
+
+    private final int capacidad;
+    private final SelectorEventos selector;
+
+    // Columnas por jugador, índice = (partido * 2 + equipo) * JUGADORES_POR_EQUIPO + ranura
+    private final byte[] velocidad;
+    private final byte[] tiro;
+    private final byte[] pase;
+    private final byte[] defensa;
+    private final byte[] fisico;
+    private final byte[] dorsal;
+    private final byte[] estado;
+
+    // Columnas por equipo, índice = partido * 2 + equipo
+    private final byte[] reflejos;
+    private final byte[] saque;
+    private final byte[] numDisponibles;
+    private final byte[] numTitulares;
+    private final byte[] numSuplentes;
+    private final byte[] cambiosIniciales;
+    private final byte[] cambios;
+    private final int[] goles;
+
+    // Ranuras de los jugadores que se pueden elegir (mismo orden que en Equipos)
+    private final byte[] disponibles;
+    // Ranuras de los suplentes en el orden de la lista de reserva
+    private final byte[] reserva;
+    // Ranuras que salen y entran en cada cambio hecho dentro del lote
+    private final byte[] salidas;
+    private final byte[] entradas;
+
+    // Estado SplitMix64 de cada partido
+    private final long[] semillas;
+
+    // Tiros a puerta del minuto en curso, pendientes de resolver
+    private final int[] tiroEquipo;
+    private final int[] tiroPotencia;
+    private final int[] tiroReflejos;
+    private final double[] tiroAzar;
+    private final double[] tiroProbabilidad;
+    private final boolean[] tiroGol;
+    private int numTiros;
+    private boolean resolucionPorLote = true;
+
+    /**
+     * Constructor con las probabilidades de evento por defecto.
+     * @param capacidad Número de partidos del lote
+     */
+    public LotePartidos(int capacidad) {
+        this(capacidad, Partido.selectorPredeterminado());
+    }
+
+    /**
+     * @param capacidad Número de partidos del lote
+     * @param selector Probabilidades de evento por minuto
+     * @throws IllegalArgumentException si la capacidad no es positiva o el selector es null
+     */
+    public LotePartidos(int capacidad, SelectorEventos selector) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (selector == null) {
+            throw new IllegalArgumentException("El selector de eventos no puede ser null");
+        }
+        this.capacidad = capacidad;
+        this.selector = selector;
+
+        int equipos = capacidad * 2;
+        int jugadores = equipos * JUGADORES_POR_EQUIPO;
+
+        velocidad = new byte[jugadores];
+        tiro = new byte[jugadores];
+        pase = new byte[jugadores];
+        defensa = new byte[jugadores];
+        fisico = new byte[jugadores];
+        dorsal = new byte[jugadores];
+        estado = new byte[jugadores];
+
+        reflejos = new byte[equipos];
+        saque = new byte[equipos];
+        numDisponibles = new byte[equipos];
+        numTitulares = new byte[equipos];
+        numSuplentes = new byte[equipos];
+        cambiosIniciales = new byte[equipos];
+        cambios = new byte[equipos];
+        goles = new int[equipos];
+
+        disponibles = new byte[equipos * MAX_TITULARES];
+        reserva = new byte[equipos * MAX_SUPLENTES];
+        salidas = new byte[equipos * MAX_CAMBIOS];
+        entradas = new byte[equipos * MAX_CAMBIOS];
+
+        semillas = new long[capacidad];
+
+        tiroEquipo = new int[capacidad];
+        tiroPotencia = new int[capacidad];
+        tiroReflejos = new int[capacidad];
+        tiroAzar = new double[capacidad];
+        tiroProbabilidad = new double[capacidad];
+        tiroGol = new boolean[capacidad];
+    }
+
+    // ===== GETTERS =====
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public boolean isResolucionPorLote() {
+        return resolucionPorLote;
+    }
+
+    /**
+     * Elige cómo se resuelven los tiros a puerta de cada minuto.
+     * @param resolucionPorLote true para juntar los tiros de cada minuto y resolverlos
+     *        con ResolucionLote, false para resolver cada tiro en el momento
+     */
+    public void setResolucionPorLote(boolean resolucionPorLote) {
+        this.resolucionPorLote = resolucionPorLote;
+    }
+
+    public int getGolesLocal(int partido) {
+        return goles[equipo(partido, CodigoEvento.LOCAL)];
+    }
+
+    public int getGolesVisitante(int partido) {
+        return goles[equipo(partido, CodigoEvento.VISITANTE)];
+    }
+
+    public int getCambiosLocal(int partido) {
+        return cambios[equipo(partido, CodigoEvento.LOCAL)];
+    }
+
+    public int getCambiosVisitante(int partido) {
+        return cambios[equipo(partido, CodigoEvento.VISITANTE)];
+    }
+
+    /**
+     * Número de jugadores que todavía se pueden elegir en un equipo del lote.
+     * @param partido Índice del partido
+     * @param equipo CodigoEvento.LOCAL o CodigoEvento.VISITANTE
+     */
+    public int contarJugadoresDisponibles(int partido, int equipo) {
+        return numDisponibles[equipo(partido, equipo)];
+    }
+
+    // ===== CARGA =====
+
+    /**
+     * Copia el estado de dos equipos a un partido del lote.
+     * Los equipos no se modifican.
+     * @param partido Índice del partido (0 a capacidad - 1)
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @param semilla Semilla del partido
+     * @throws IllegalArgumentException si algún equipo no cabe en las ranuras del lote
+     */
+    public void cargar(int partido, Equipos local, Equipos visitante, long semilla) {
+        cargarEquipo(equipo(partido, CodigoEvento.LOCAL), local);
+        cargarEquipo(equipo(partido, CodigoEvento.VISITANTE), visitante);
+        semillas[partido] = semilla;
+    }
+
+    /**
+     * Carga el mismo enfrentamiento en todos los partidos del lote, cada uno con
+     * su semilla derivada (Aleatorio.semillaDerivada(semillaBase, primerIndice + i)).
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @param semillaBase Semilla base de la simulación
+     * @param primerIndice Número global del primer partido del lote
+     */
+    public void cargarTodos(Equipos local, Equipos visitante, long semillaBase, long primerIndice) {
+        cargar(0, local, visitante, Aleatorio.semillaDerivada(semillaBase, primerIndice));
+        for (int i = 1; i < capacidad; i++) {
+            copiarPartido(0, i);
+            semillas[i] = Aleatorio.semillaDerivada(semillaBase, primerIndice + i);
+        }
+    }
+
+    private void cargarEquipo(int e, Equipos equipo) {
+        int titulares = equipo.getNumTitulares();
+        int suplentes = equipo.getNumSuplentes();
+        if (titulares > MAX_TITULARES || suplentes > MAX_SUPLENTES) {
+            throw new IllegalArgumentException("El equipo " + equipo.getNombre() + " no cabe en el lote");
+        }
+
+        int base = e * JUGADORES_POR_EQUIPO;
+        Arrays.fill(estado, base, base + JUGADORES_POR_EQUIPO, (byte) 0);
+
+        int libres = 0;
+        for (int i = 0; i < titulares; i++) {
+            Jugador jugador = equipo.getTitular(i);
+            cargarJugador(base + i, jugador, EN_CAMPO);
+            if (!jugador.isExpulsado()) {
+                disponibles[e * MAX_TITULARES + libres++] = (byte) i;
+            }
+        }
+        for (int i = 0; i < suplentes; i++) {
+            cargarJugador(base + MAX_TITULARES + i, equipo.getSuplente(i), 0);
+            reserva[e * MAX_SUPLENTES + i] = (byte) (MAX_TITULARES + i);
+        }
+
+        Portero portero = equipo.getPortero();
+        reflejos[e] = (byte) portero.getReflejos();
+        saque[e] = (byte) portero.getSaque();
+        numDisponibles[e] = (byte) libres;
+        numTitulares[e] = (byte) titulares;
+        numSuplentes[e] = (byte) suplentes;
+        cambiosIniciales[e] = (byte) equipo.getCambiosRealizados();
+        cambios[e] = (byte) equipo.getCambiosRealizados();
+        goles[e] = equipo.getGoles();
+    }
+
+    private void cargarJugador(int j, Jugador jugador, int bits) {
+        velocidad[j] = (byte) jugador.getVelocidad();
+        tiro[j] = (byte) jugador.getTiro();
+        pase[j] = (byte) jugador.getPase();
+        defensa[j] = (byte) jugador.getDefensa();
+        fisico[j] = (byte) jugador.getFisico();
+        dorsal[j] = (byte) jugador.getDorsal();
+
+        if (jugador.getTarjetasAmarillas() >= 2) {
+            bits |= AMARILLA | DOBLE_AMARILLA;
+        } else if (jugador.getTarjetasAmarillas() == 1) {
+            bits |= AMARILLA;
+        }
+        if (jugador.isExpulsado() && (bits & DOBLE_AMARILLA) == 0) {
+            bits |= ROJA;
+        }
+        if (jugador.getLesiones() > 0) {
+            bits |= LESIONADO;
+        }
+        estado[j] = (byte) bits;
+    }
+
+    private void copiarPartido(int desde, int hacia) {
+        copiar(velocidad, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(tiro, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(pase, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(defensa, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(fisico, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(dorsal, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+        copiar(estado, desde, hacia, 2 * JUGADORES_POR_EQUIPO);
+
+        copiar(reflejos, desde, hacia, 2);
+        copiar(saque, desde, hacia, 2);
+        copiar(numDisponibles, desde, hacia, 2);
+        copiar(numTitulares, desde, hacia, 2);
+        copiar(numSuplentes, desde, hacia, 2);
+        copiar(cambiosIniciales, desde, hacia, 2);
+        copiar(cambios, desde, hacia, 2);
+        System.arraycopy(goles, desde * 2, goles, hacia * 2, 2);
+
+        copiar(disponibles, desde, hacia, 2 * MAX_TITULARES);
+        copiar(reserva, desde, hacia, 2 * MAX_SUPLENTES);
+    }
+
+    private static void copiar(byte[] columna, int desde, int hacia, int ancho) {
+        System.arraycopy(columna, desde * ancho, columna, hacia * ancho, ancho);
+    }
+
+    // ===== SIMULACIÓN =====
+
+    /**
+     * Juega un partido completo (minutos 0 a 90) en todos los partidos del lote.
+     */
+    public void jugar() {
+        jugarMinutos(EjecutorPartido.MINUTOS + 1);
+    }
+
+    /**
+     * Avanza todos los partidos del lote la cantidad de minutos indicada.
+     * @param minutos Minutos a jugar
+     */
+    public void jugarMinutos(int minutos) {
+        for (int m = 0; m < minutos; m++) {
+            numTiros = 0;
+            for (int p = 0; p < capacidad; p++) {
+                jugarMinuto(p);
+            }
+            resolverTiros();
+        }
+    }
+
+    /**
+     * Resuelve juntos los tiros a puerta acumulados durante el minuto.
+     */
+    private void resolverTiros() {
+        if (numTiros == 0) {
+            return;
+        }
+        ResolucionLote.probabilidadesTiroPuerta(numTiros, tiroPotencia, tiroReflejos, tiroProbabilidad);
+        ResolucionLote.resolver(numTiros, tiroAzar, tiroProbabilidad, tiroGol);
+        for (int i = 0; i < numTiros; i++) {
+            if (tiroGol[i]) {
+                goles[tiroEquipo[i]]++;
+            }
+        }
+    }
+
+    /**
+     * Un minuto de un partido, con los mismos sorteos que Partido.resolverMinuto.
+     */
+    private void jugarMinuto(int p) {
+        TipoEvento tipo = selector.tipoEnCasilla(siguienteEntero(p, SelectorEventos.RESOLUCION));
+        if (tipo == TipoEvento.NINGUNO) {
+            return;
+        }
+
+        int lado = siguienteLong(p) < 0 ? CodigoEvento.LOCAL : CodigoEvento.VISITANTE;
+        int ataque = equipo(p, lado);
+        int rival = equipo(p, 1 - lado);
+
+        int atacante = elegirJugador(p, ataque);
+        int defensor = elegirJugador(p, rival);
+        if (atacante < 0 || defensor < 0) {
+            return;
+        }
+
+        int a = ataque * JUGADORES_POR_EQUIPO + atacante;
+        int d = rival * JUGADORES_POR_EQUIPO + defensor;
+
+        switch (tipo) {
+            case TIRO_PUERTA:
+                if (!resolucionPorLote) {
+                    if (siguienteDouble(p) < TablasEventos.tiroPuerta(tiro[a], velocidad[a], reflejos[rival])) {
+                        goles[ataque]++;
+                    }
+                    break;
+                }
+                // Cada partido tiene a lo sumo un evento por minuto, así que el gol
+                // se puede sumar al final del minuto sin afectar a otros eventos
+                tiroEquipo[numTiros] = ataque;
+                tiroPotencia[numTiros] = 5 * tiro[a] + velocidad[a];
+                tiroReflejos[numTiros] = reflejos[rival];
+                tiroAzar[numTiros] = siguienteDouble(p);
+                numTiros++;
+                break;
+
+            case PENAL:
+                if (siguienteDouble(p) < TablasEventos.penal(tiro[a], reflejos[rival])) {
+                    goles[ataque]++;
+                }
+                break;
+
+            case TIRO_LIBRE: {
+                double prob = tiro[a] > 85
+                        ? TablasEventos.tiroLibreDirecto(tiro[a], reflejos[rival])
+                        : pase[a] * 0.01 * TablasEventos.tiroPuerta(tiro[a], velocidad[a], reflejos[rival]);
+                if (siguienteDouble(p) < prob) {
+                    goles[ataque]++;
+                }
+                break;
+            }
+
+            case TIRO_ESQUINA: {
+                double prob = TablasEventos.esquinaSinCorte(reflejos[rival], saque[rival], pase[a])
+                        * TablasEventos.esquinaPosicion(fisico[a], fisico[d], defensa[d])
+                        * TablasEventos.esquinaCabezazo(tiro[a], reflejos[rival]);
+                if (siguienteDouble(p) < prob) {
+                    goles[ataque]++;
+                }
+                break;
+            }
+
+            // Solo consumen su número aleatorio para mantener la secuencia de Partido
+            case SAQUE_BANDA:
+            case FUERA_DE_JUEGO:
+                siguienteLong(p);
+                break;
+
+            case TARJETA_AMARILLA:
+                if (siguienteDouble(p) < TablasEventos.tarjetaAmarilla(defensa[a])) {
+                    if ((estado[a] & AMARILLA) != 0) {
+                        estado[a] |= DOBLE_AMARILLA;
+                        quitarDisponible(ataque, atacante);
+                    } else {
+                        estado[a] |= AMARILLA;
+                    }
+                }
+                break;
+
+            case TARJETA_ROJA:
+                estado[a] |= ROJA;
+                quitarDisponible(ataque, atacante);
+                break;
+
+            case LESION:
+                if (siguienteDouble(p) < TablasEventos.lesion(fisico[a])) {
+                    estado[a] |= LESIONADO;
+                    if (cambios[ataque] < MAX_CAMBIOS) {
+                        cambioPorLesion(ataque, atacante);
+                    }
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Ranura de un jugador disponible al azar, o -1 si no queda ninguno.
+     */
+    private int elegirJugador(int p, int e) {
+        int n = numDisponibles[e];
+        if (n == 0) {
+            return -1;
+        }
+        return disponibles[e * MAX_TITULARES + siguienteEntero(p, n)];
+    }
+
+    /**
+     * Saca al lesionado y mete al primer suplente sano, igual que Partido.
+     * El suplente ocupa el lugar del lesionado en disponibles y el lesionado
+     * el del suplente en la reserva.
+     */
+    private void cambioPorLesion(int e, int sale) {
+        int base = e * JUGADORES_POR_EQUIPO;
+        for (int k = 0; k < numSuplentes[e]; k++) {
+            int entra = reserva[e * MAX_SUPLENTES + k];
+            if ((estado[base + entra] & (LESIONADO | EXPULSADO)) != 0) {
+                continue;
+            }
+
+            estado[base + sale] &= ~EN_CAMPO;
+            estado[base + entra] |= EN_CAMPO;
+            reserva[e * MAX_SUPLENTES + k] = (byte) sale;
+            disponibles[e * MAX_TITULARES + indiceDisponible(e, sale)] = (byte) entra;
+
+            int registro = e * MAX_CAMBIOS + (cambios[e] - cambiosIniciales[e]);
+            salidas[registro] = (byte) sale;
+            entradas[registro] = (byte) entra;
+            cambios[e]++;
+            return;
+        }
+    }
+
+    private int indiceDisponible(int e, int ranura) {
+        int inicio = e * MAX_TITULARES;
+        for (int i = 0; i < numDisponibles[e]; i++) {
+            if (disponibles[inicio + i] == ranura) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Quita un jugador de disponibles poniendo el último en su lugar (como Equipos).
+     */
+    private void quitarDisponible(int e, int ranura) {
+        int indice = indiceDisponible(e, ranura);
+        if (indice >= 0) {
+            int ultimo = --numDisponibles[e];
+            disponibles[e * MAX_TITULARES + indice] = disponibles[e * MAX_TITULARES + ultimo];
+        }
+    }
+
+    private static int equipo(int partido, int lado) {
+        return partido * 2 + lado;
+    }
+
+    // ===== NÚMEROS ALEATORIOS =====
+    // Misma secuencia que un Aleatorio con la semilla del partido
+
+    private long siguienteLong(int p) {
+        long s = Aleatorio.avanzar(semillas[p]);
+        semillas[p] = s;
+        return Aleatorio.mezclar(s);
+    }
+
+    private int siguienteEntero(int p, int limite) {
+        return Aleatorio.aEntero(siguienteLong(p), limite);
+    }
+
+    private double siguienteDouble(int p) {
+        return Aleatorio.aDouble(siguienteLong(p));
+    }
+
+    // ===== VOLCADO =====
+
+    /**
+     * Copia el resultado de un partido del lote a los equipos con los que se cargó
+     * (o a copias de ellos): goles, cambios, tarjetas, lesiones y expulsiones.
+     * @param partido Índice del partido
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     */
+    public void volcar(int partido, Equipos local, Equipos visitante) {
+        volcarEquipo(equipo(partido, CodigoEvento.LOCAL), local);
+        volcarEquipo(equipo(partido, CodigoEvento.VISITANTE), visitante);
+    }
+
+    private void volcarEquipo(int e, Equipos equipo) {
+        int base = e * JUGADORES_POR_EQUIPO;
+
+        // Primero los cambios: Equipos no acepta que entre un jugador lesionado o expulsado
+        for (int c = 0; c < cambios[e] - cambiosIniciales[e]; c++) {
+            Jugador sale = equipo.getJugadorPorDorsal(dorsal[base + salidas[e * MAX_CAMBIOS + c]]);
+            Jugador entra = equipo.getJugadorPorDorsal(dorsal[base + entradas[e * MAX_CAMBIOS + c]]);
+            equipo.cambio(sale, entra);
+        }
+
+        for (int r = 0; r < JUGADORES_POR_EQUIPO; r++) {
+            if (r == numTitulares[e]) {
+                r = MAX_TITULARES;
+            }
+            if (r >= MAX_TITULARES + numSuplentes[e]) {
+                break;
+            }
+            int bits = estado[base + r];
+            Jugador jugador = equipo.getJugadorPorDorsal(dorsal[base + r]);
+            if (jugador == null) {
+                continue;
+            }
+
+            int amarillas = (bits & DOBLE_AMARILLA) != 0 ? 2 : (bits & AMARILLA) != 0 ? 1 : 0;
+            int rojas = ((bits & DOBLE_AMARILLA) != 0 ? 1 : 0) + ((bits & ROJA) != 0 ? 1 : 0);
+            jugador.setTarjetasAmarillas(amarillas);
+            jugador.setTarjetasRojas(rojas);
+            if ((bits & LESIONADO) != 0 && jugador.getLesiones() == 0) {
+                jugador.setLesiones(1);
+            }
+            jugador.setExpulsado((bits & EXPULSADO) != 0);
+        }
+
+        equipo.setGoles(goles[e]);
+    }
+}
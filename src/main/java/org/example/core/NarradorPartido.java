@@ -0,0 +1,135 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+
+/**
+ * Convierte códigos de evento en el texto que se muestra en la ventana del partido.
+ * El texto solo se genera cuando alguien lo pide; la simulación trabaja con los códigos.
+ */
+public final class NarradorPartido {
+
+    private NarradorPartido() {
+    }
+
+    /**
+     * Genera la narración de un evento.
+     * @param codigo Código del evento (ver CodigoEvento)
+     * @param equipoLocal Equipo local del partido
+     * @param equipoVisitante Equipo visitante del partido
+     * @return Texto del evento, con el mismo formato "minuto N\t: ..." de siempre
+     */
+    public static String narrar(int codigo, Equipos equipoLocal, Equipos equipoVisitante) {
+        int minutoActual = CodigoEvento.minuto(codigo);
+        int resultado = CodigoEvento.resultado(codigo);
+
+        Equipos equipoAfectado;
+        Equipos equipoRival;
+        if (CodigoEvento.equipo(codigo) == CodigoEvento.LOCAL) {
+            equipoAfectado = equipoLocal;
+            equipoRival = equipoVisitante;
+        } else {
+            equipoAfectado = equipoVisitante;
+            equipoRival = equipoLocal;
+        }
+
+        String prefijo = "minuto " + minutoActual + "\t: ";
+
+        switch (CodigoEvento.tipo(codigo)) {
+            case SIN_JUGADORES:
+                return prefijo + "No hay jugadores disponibles";
+
+            case TIRO_PUERTA:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + protagonista(codigo, equipoAfectado) +
+                            " dispara y... marca GOOOOOOL PARA " + equipoAfectado.getNombre();
+                }
+                return prefijo + protagonista(codigo, equipoAfectado) +
+                        " DISPARA!, pero... " + secundario(codigo, equipoRival) + " ATAJA el balon";
+
+            case PENAL:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + "GOOOOOOOOL!!!! DE " +
+                            protagonista(codigo, equipoAfectado) + " PARA " + equipoAfectado.getNombre();
+                }
+                return prefijo + "LO PARO LO PARO SENORES LO PARO!!!! " +
+                        secundario(codigo, equipoRival) + " ATAJO INCREIBLEMENTE";
+
+            case TIRO_LIBRE:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + "GOLAZOOOOOOO DE " + protagonista(codigo, equipoAfectado) +
+                            " PARA " + equipoAfectado.getNombre();
+                }
+                return prefijo + "NOOOOO QUE LERDOOOO " + protagonista(codigo, equipoAfectado) +
+                        " FALLO TERRIBLEMENTE";
+
+            case TIRO_ESQUINA:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + "QUE BUEN TIRAZOOOOO DE " + protagonista(codigo, equipoAfectado);
+                }
+                return prefijo + "VAYAAA JUGADOR " + secundario(codigo, equipoRival) +
+                        " QUE DEFENSAAA DIOS MIO";
+
+            case SAQUE_BANDA:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + protagonista(codigo, equipoAfectado) + " saque exitoso...";
+                }
+                return prefijo + secundario(codigo, equipoRival) + " recibe el saque...";
+
+            case TARJETA_AMARILLA:
+                if (resultado == CodigoEvento.RESULTADO_EXPULSION) {
+                    return prefijo + "EXPULSION! " + protagonista(codigo, equipoAfectado) +
+                            " RECIBE SU SEGUNDA TARJETA AMARILLA! AHORA " +
+                            equipoAfectado.getNombre() + " SE QUEDA NO " +
+                            CodigoEvento.extra(codigo) + " JUGADORES!";
+                } else if (resultado == CodigoEvento.RESULTADO_AMARILLA) {
+                    return prefijo + "Nooo... Tarjeta Amarilla para " + protagonista(codigo, equipoAfectado);
+                }
+                return prefijo;
+
+            case TARJETA_ROJA:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + "TARJETA ROJA DIRECTA! " + protagonista(codigo, equipoAfectado) +
+                            " QUEDA EXPULSADO! " + equipoAfectado.getNombre() +
+                            " SOLO QUEDA CON " + CodigoEvento.extra(codigo) + " JUGADORES!";
+                }
+                return prefijo;
+
+            case FUERA_DE_JUEGO:
+                if (resultado == CodigoEvento.RESULTADO_EXITO) {
+                    return prefijo + protagonista(codigo, equipoAfectado) +
+                            " estaba en una posicion adelantada, Se anula la jugada!";
+                }
+                return prefijo;
+
+            case LESION:
+                if (resultado == CodigoEvento.RESULTADO_CAMBIO) {
+                    return prefijo + protagonista(codigo, equipoAfectado) + " SE LESIONA, QUE DOLOOR! " +
+                            "Sale del campo y entra... " + secundario(codigo, equipoAfectado) + " en su lugar. " +
+                            "Cambio " + CodigoEvento.extra(codigo) + "/5";
+                } else if (resultado == CodigoEvento.RESULTADO_SIN_CAMBIOS) {
+                    return prefijo + protagonista(codigo, equipoAfectado) +
+                            " cae lesionado pero ya se agotaron los cambios! Debe continuar";
+                } else if (resultado == CodigoEvento.RESULTADO_SIN_SUPLENTES) {
+                    return prefijo + protagonista(codigo, equipoAfectado) +
+                            " cae lesionado pero NO hay suplentes disponibles!";
+                }
+                return prefijo;
+
+            default:
+                return prefijo;
+        }
+    }
+
+    private static String protagonista(int codigo, Equipos equipo) {
+        return nombre(equipo.getJugadorPorDorsal(CodigoEvento.dorsal(codigo)));
+    }
+
+    private static String secundario(int codigo, Equipos equipo) {
+        return nombre(equipo.getJugadorPorDorsal(CodigoEvento.dorsalSecundario(codigo)));
+    }
+
+    private static String nombre(Jugador jugador) {
+        return jugador != null ? jugador.getNombre() : "?";
+    }
+}
@@ -4,7 +4,10 @@ import org.example.entidades.Equipos;
 import org.example.entidades.Formacion;
 import org.example.entidades.Jugador;
 import org.example.entidades.Portero;
+import org.example.enums.ModoSimulacion;
+import org.example.enums.TipoEvento;
 import org.example.nombres.JugadoresNombres;
+import org.example.util.Aleatorio;
 
 import java.util.*;
 
@@ -25,10 +28,27 @@ public class Partido {
     private static final double PROB_PENAL = 0.3;           // (antes 1).
     private static final double PROB_TARJETA_ROJA = 0.1;    // (antes 1).
 
+    // Tabla de selección construida una sola vez con las probabilidades de arriba
+    private static final SelectorEventos SELECTOR_PREDETERMINADO =
+            new SelectorEventos(probabilidadesPredeterminadas());
+
     private final Equipos equipoLocal;
     private final Equipos equipoVisitante;
     private final Eventos evento;
-    Random random = new Random();
+    private final Aleatorio random;
+    private RegistroEventos registro;
+    private TransmisionPartido transmision;
+    private SelectorEventos selector = SELECTOR_PREDETERMINADO;
+
+    // Próximo minuto por jugar y, en modo por eventos, minuto del evento ya sorteado (-1 si no hay)
+    private int minutoSiguiente = 0;
+    private int minutoProximoEvento = -1;
+
+    // Goles de la tanda de penales (-1 si no hubo tanda)
+    private int penalesLocal = -1;
+    private int penalesVisitante = -1;
+
+    private static final int PENALES_POR_EQUIPO = 5;
 
     // ===== CONSTRUCTORES =====
 
@@ -39,9 +59,68 @@ public class Partido {
      * @param visitante Equipo visitante
      */
     public Partido(Equipos local, Equipos visitante) {
+        this(local, visitante, new Aleatorio());
+    }
+
+    /**
+     * Constructor con semilla. Con la misma semilla y los mismos equipos
+     * el partido se juega exactamente igual.
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @param semilla Semilla del partido
+     */
+    public Partido(Equipos local, Equipos visitante, long semilla) {
+        this(local, visitante, new Aleatorio(semilla));
+    }
+
+    /**
+     * Constructor con un generador ya creado. Toda la aleatoriedad del partido
+     * (eventos, jugadores elegidos y resolución) sale de este generador.
+     * @param local Equipo local
+     * @param visitante Equipo visitante
+     * @param random Generador del partido
+     */
+    public Partido(Equipos local, Equipos visitante, Aleatorio random) {
         this.equipoLocal = local;
         this.equipoVisitante = visitante;
-        this.evento = new Eventos();
+        this.random = random;
+        this.evento = new Eventos(random);
+    }
+
+    /**
+     * Constructor de copia: copia profunda de los dos equipos, el generador y el
+     * minuto por jugar. La copia sigue el partido exactamente igual que lo haría el
+     * original, pero sin modificarlo, también después de expulsiones y cambios (ver el
+     * constructor de copia de Equipos). El registro de eventos no se copia.
+     * @param original Partido a copiar
+     */
+    public Partido(Partido original) {
+        this(original, new Aleatorio(original.random));
+    }
+
+    /**
+     * Copia el estado del partido pero sigue con otra semilla: desde aquí la copia
+     * se juega distinto que el original. Sirve para simular continuaciones posibles.
+     * @param original Partido a copiar
+     * @param semilla Semilla de la continuación
+     */
+    public Partido(Partido original, long semilla) {
+        this(original, new Aleatorio(semilla));
+        // El próximo evento ya sorteado pertenece a la secuencia original
+        this.minutoProximoEvento = -1;
+    }
+
+    private Partido(Partido original, Aleatorio random) {
+        this.equipoLocal = new Equipos(original.equipoLocal);
+        this.equipoVisitante = new Equipos(original.equipoVisitante);
+        this.random = random;
+        this.evento = new Eventos(random);
+        this.evento.setUsarTablas(original.evento.isUsarTablas());
+        this.selector = original.selector;
+        this.minutoSiguiente = original.minutoSiguiente;
+        this.minutoProximoEvento = original.minutoProximoEvento;
+        this.penalesLocal = original.penalesLocal;
+        this.penalesVisitante = original.penalesVisitante;
     }
 
     // ===== GETTERS =====
@@ -62,8 +141,99 @@ public class Partido {
         return equipoVisitante;
     }
 
+    /**
+     * Obtiene el gestor de eventos del partido (por ejemplo, para elegir
+     * entre tablas precalculadas y cálculo directo).
+     * @return Gestor de eventos
+     */
+    public Eventos getEventos() {
+        return evento;
+    }
+
+    /**
+     * Obtiene el próximo minuto que se va a jugar.
+     * @return Minuto siguiente (0 antes de empezar)
+     */
+    public int getMinutoSiguiente() {
+        return minutoSiguiente;
+    }
+
+    public SelectorEventos getSelectorEventos() {
+        return selector;
+    }
+
+    /**
+     * Penales anotados por el local en la tanda.
+     * @return Goles en la tanda, o -1 si no hubo tanda de penales
+     */
+    public int getPenalesLocal() {
+        return penalesLocal;
+    }
+
+    public int getPenalesVisitante() {
+        return penalesVisitante;
+    }
+
+    // ===== SETTERS =====
+
+    /**
+     * Cambia las probabilidades de los eventos solo para este partido
+     * (reglas alternativas). La selección sigue siendo O(1).
+     * @param selector Selector construido con las nuevas probabilidades
+     */
+    public void setSelectorEventos(SelectorEventos selector) {
+        if (selector == null) {
+            throw new IllegalArgumentException("El selector de eventos no puede ser null");
+        }
+        this.selector = selector;
+    }
+
+    /**
+     * Selector construido con las probabilidades por defecto (compartido, no se modifica).
+     */
+    static SelectorEventos selectorPredeterminado() {
+        return SELECTOR_PREDETERMINADO;
+    }
+
+    /**
+     * Probabilidades por defecto (en %) de cada tipo de evento por minuto.
+     * Devuelve un mapa nuevo, que se puede modificar para crear reglas alternativas.
+     * @return Mapa con la probabilidad de cada evento
+     */
+    public static Map<TipoEvento, Double> probabilidadesPredeterminadas() {
+        Map<TipoEvento, Double> probabilidades = new EnumMap<>(TipoEvento.class);
+        probabilidades.put(TipoEvento.TIRO_PUERTA, PROB_TIRO_A_PUERTA);
+        probabilidades.put(TipoEvento.PENAL, PROB_PENAL);
+        probabilidades.put(TipoEvento.TIRO_LIBRE, PROB_TIRO_LIBRE);
+        probabilidades.put(TipoEvento.TIRO_ESQUINA, PROB_TIRO_EQUINA);
+        probabilidades.put(TipoEvento.SAQUE_BANDA, SAQUE_DE_BANDA);
+        probabilidades.put(TipoEvento.TARJETA_AMARILLA, PROB_TARJETA_AMARILLA);
+        probabilidades.put(TipoEvento.TARJETA_ROJA, PROB_TARJETA_ROJA);
+        probabilidades.put(TipoEvento.FUERA_DE_JUEGO, FUERA_DE_JUEGO);
+        probabilidades.put(TipoEvento.LESION, LESION);
+        return probabilidades;
+    }
+
     // ===== MÉTODOS PÚBLICOS =====
 
+    /**
+     * Asigna un registro donde se guardan los códigos de los eventos de cada minuto.
+     * Los minutos sin evento no se guardan.
+     * @param registro Registro de eventos, o null para no registrar
+     */
+    public void setRegistro(RegistroEventos registro) {
+        this.registro = registro;
+    }
+
+    /**
+     * Asigna una transmisión que publica cada minuto jugado (incluidos los minutos sin
+     * evento en modo POR_MINUTO) con el marcador actualizado. Publicar nunca bloquea el partido.
+     * @param transmision Transmisión, o null para no publicar
+     */
+    public void setTransmision(TransmisionPartido transmision) {
+        this.transmision = transmision;
+    }
+
     /**
      * Procesa un minuto del partido, generando eventos aleatorios.
      * Selecciona aleatoriamente el equipo afectado, jugadores involucrados y tipo de evento.
@@ -75,146 +245,277 @@ public class Partido {
      * @return String describiendo el evento ocurrido en este minuto
      */
     public String procesarMinuto(int minutoActual, Equipos equipoLocal, Equipos equipoVisitante) {
-        int numGenerado = random.nextInt(100);
-        double prob = 0;
+        avanzarCursor(minutoActual);
+        int codigo = resolverMinuto(minutoActual, equipoLocal, equipoVisitante);
+        registrar(codigo);
+        return NarradorPartido.narrar(codigo, equipoLocal, equipoVisitante);
+    }
+
+    /**
+     * Procesa un minuto del partido sin generar texto.
+     * Es el camino rápido para simulaciones masivas: no crea objetos por minuto.
+     * @param minutoActual Minuto actual del partido
+     * @return Código del evento ocurrido (ver CodigoEvento)
+     */
+    public int simularMinuto(int minutoActual) {
+        avanzarCursor(minutoActual);
+        int codigo = resolverMinuto(minutoActual, equipoLocal, equipoVisitante);
+        registrar(codigo);
+        return codigo;
+    }
+
+    /**
+     * Juega desde el minuto siguiente hasta minutoFinal (inclusive).
+     * En modo POR_EVENTO se sortea con una geométrica cuántos minutos vacíos hay
+     * antes del próximo evento y se salta directo a él, sin tocar los minutos vacíos.
+     * La distribución de resultados es la misma que jugando minuto a minuto.
+     * @param minutoFinal Último minuto a jugar
+     * @param modo Forma de avanzar el partido
+     */
+    public void jugarHasta(int minutoFinal, ModoSimulacion modo) {
+        if (modo == ModoSimulacion.POR_MINUTO) {
+            while (minutoSiguiente <= minutoFinal) {
+                simularMinuto(minutoSiguiente);
+            }
+            return;
+        }
+
+        while (true) {
+            if (minutoProximoEvento < 0) {
+                long proximo = (long) minutoSiguiente + selector.saltoHastaEvento(random);
+                minutoProximoEvento = (int) Math.min(proximo, Integer.MAX_VALUE);
+            }
+            if (minutoProximoEvento > minutoFinal) {
+                break;
+            }
+
+            int minuto = minutoProximoEvento;
+            minutoProximoEvento = -1;
+            registrar(resolverEvento(minuto, selector.elegirEvento(random), equipoLocal, equipoVisitante));
+            minutoSiguiente = minuto + 1;
+        }
+
+        if (minutoSiguiente <= minutoFinal) {
+            minutoSiguiente = minutoFinal + 1;
+        }
+    }
+
+    /**
+     * Juega una tanda de penales para desempatar una eliminatoria.
+     * Cada equipo tira PENALES_POR_EQUIPO penales alternados (la tanda termina antes si
+     * uno ya no puede alcanzar al otro) y después sigue a muerte súbita. Cada tiro se
+     * resuelve con Eventos.penal contra el portero rival. Tiran los jugadores en cancha
+     * no expulsados, en orden, y al terminar la lista vuelve a empezar.
+     * No cambia el marcador del partido.
+     * @return CodigoEvento.LOCAL o CodigoEvento.VISITANTE según quién gana la tanda
+     */
+    public int tandaPenales() {
+        List<Jugador> tiradoresLocal = tiradores(equipoLocal);
+        List<Jugador> tiradoresVisitante = tiradores(equipoVisitante);
+        penalesLocal = 0;
+        penalesVisitante = 0;
+
+        for (int tiro = 0; ; tiro++) {
+            if (evento.penal(tiradoresLocal.get(tiro % tiradoresLocal.size()), equipoVisitante.getPortero())) {
+                penalesLocal++;
+            }
+            if (tiro < PENALES_POR_EQUIPO && decidida(tiro + 1, tiro)) {
+                break;
+            }
+            if (evento.penal(tiradoresVisitante.get(tiro % tiradoresVisitante.size()), equipoLocal.getPortero())) {
+                penalesVisitante++;
+            }
+            if (tiro < PENALES_POR_EQUIPO ? decidida(tiro + 1, tiro + 1)
+                    : penalesLocal != penalesVisitante) {
+                break;
+            }
+        }
+        return penalesLocal > penalesVisitante ? CodigoEvento.LOCAL : CodigoEvento.VISITANTE;
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Indica si la serie de PENALES_POR_EQUIPO ya tiene ganador: uno de los dos no
+     * alcanza al otro ni anotando todos los que le quedan, o ya tiraron todos y no hay empate.
+     */
+    private boolean decidida(int tirosLocal, int tirosVisitante) {
+        int restantesLocal = PENALES_POR_EQUIPO - tirosLocal;
+        int restantesVisitante = PENALES_POR_EQUIPO - tirosVisitante;
+        return penalesLocal + restantesLocal < penalesVisitante
+                || penalesVisitante + restantesVisitante < penalesLocal
+                || (restantesLocal == 0 && restantesVisitante == 0 && penalesLocal != penalesVisitante);
+    }
+
+    /**
+     * Jugadores que pueden tirar un penal; si no queda nadie, tira el portero.
+     */
+    private static List<Jugador> tiradores(Equipos equipo) {
+        List<Jugador> tiradores = new ArrayList<>(equipo.getNumTitulares());
+        for (Jugador jugador : equipo.getTitulares()) {
+            if (!jugador.isExpulsado()) {
+                tiradores.add(jugador);
+            }
+        }
+        if (tiradores.isEmpty()) {
+            tiradores.add(equipo.getPortero());
+        }
+        return tiradores;
+    }
+
+    /**
+     * Al jugar un minuto suelto se descarta el evento ya sorteado del modo por eventos.
+     * No cambia la distribución porque los minutos sin evento no tienen memoria.
+     */
+    private void avanzarCursor(int minutoActual) {
+        minutoSiguiente = minutoActual + 1;
+        minutoProximoEvento = -1;
+    }
+
+    private void registrar(int codigo) {
+        if (registro != null && CodigoEvento.tipo(codigo) != TipoEvento.NINGUNO) {
+            registro.agregar(codigo);
+        }
+        if (transmision != null) {
+            transmision.publicar(codigo, equipoLocal.getGoles(), equipoVisitante.getGoles());
+        }
+    }
+
+    /**
+     * Elige el tipo de evento del minuto, lo resuelve y aplica sus efectos sobre los equipos.
+     * @return Código del evento ocurrido
+     */
+    private int resolverMinuto(int minutoActual, Equipos equipoLocal, Equipos equipoVisitante) {
+        TipoEvento tipo = selector.elegir(random);
+        if (tipo == TipoEvento.NINGUNO) {
+            return CodigoEvento.codificar(TipoEvento.NINGUNO, minutoActual, CodigoEvento.LOCAL, 0, 0, 0, 0);
+        }
+        return resolverEvento(minutoActual, tipo, equipoLocal, equipoVisitante);
+    }
+
+    /**
+     * Resuelve un evento de tipo conocido: elige equipo y jugadores y aplica el resultado.
+     * @return Código del evento ocurrido
+     */
+    private int resolverEvento(int minutoActual, TipoEvento tipo, Equipos equipoLocal, Equipos equipoVisitante) {
         Jugador jugadorAfectado;
         Jugador jugadorDefensor;
         Equipos equipoAfectado;
         Portero porteroDefensor;
+        int equipo;
 
         // Asignar aleatoriamente el equipo que protagoniza el evento
-        if (random.nextBoolean()) {
+        if (random.siguienteBooleano()) {
+            equipo = CodigoEvento.LOCAL;
             equipoAfectado = equipoLocal;
-            jugadorAfectado = equipoLocal.getJugadorRandom();
-            jugadorDefensor = equipoVisitante.getJugadorRandom();
+            jugadorAfectado = equipoLocal.getJugadorRandom(random);
+            jugadorDefensor = equipoVisitante.getJugadorRandom(random);
             porteroDefensor = equipoVisitante.getPortero();
         } else {
+            equipo = CodigoEvento.VISITANTE;
             equipoAfectado = equipoVisitante;
-            jugadorAfectado = equipoVisitante.getJugadorRandom();
-            jugadorDefensor = equipoLocal.getJugadorRandom();
+            jugadorAfectado = equipoVisitante.getJugadorRandom(random);
+            jugadorDefensor = equipoLocal.getJugadorRandom(random);
             porteroDefensor = equipoLocal.getPortero();
         }
 
         // Validar que haya jugadores disponibles
         if (jugadorAfectado == null || jugadorDefensor == null) {
-            return "minuto " + minutoActual + "\t: No hay jugadores disponibles";
+            return CodigoEvento.codificar(TipoEvento.SIN_JUGADORES, minutoActual, equipo, 0, 0, 0, 0);
         }
 
         int goles = equipoAfectado.getGoles();
-        int tarjetasAmarillas = jugadorAfectado.getTarjetasAmarillas();
-        int tarjetasRojas = jugadorAfectado.getTarjetasRojas();
         int lesiones = jugadorAfectado.getLesiones();
+        int dorsal = jugadorAfectado.getDorsal();
 
         // ======================== PROCESAMIENTO DE EVENTOS ==========================
 
-        // TIRO A PUERTA
-        if (numGenerado < (prob += PROB_TIRO_A_PUERTA)) {
-            if (evento.tiroPuerta(jugadorAfectado, porteroDefensor)) {
-                goles++;
-                equipoAfectado.setGoles(goles);
-                return "minuto " + minutoActual + "\t: " +
-                        jugadorAfectado.getNombre() +
-                        " dispara y... marca GOOOOOOL PARA " + equipoAfectado.getNombre();
-            } else {
-                return "minuto " + minutoActual + "\t: " +
-                        jugadorAfectado.getNombre() +
-                        " DISPARA!, pero... " + porteroDefensor.getNombre() + " ATAJA el balon";
-            }
-
-            // PENAL
-        } else if (numGenerado < (prob += PROB_PENAL)) {
-            if (evento.penal(jugadorAfectado, porteroDefensor)) {
-                goles++;
-                equipoAfectado.setGoles(goles);
-                return "minuto " + minutoActual + "\t: " +
-                        "GOOOOOOOOL!!!! DE " +
-                        jugadorAfectado.getNombre() + " PARA " + equipoAfectado.getNombre();
-            } else {
-                return "minuto " + minutoActual + "\t: " +
-                        "LO PARO LO PARO SENORES LO PARO!!!! " + porteroDefensor.getNombre() + " ATAJO INCREIBLEMENTE";
-            }
-
-            // TIRO LIBRE
-        } else if (numGenerado < (prob += PROB_TIRO_LIBRE)) {
-            if (evento.tiroLibre(jugadorAfectado, porteroDefensor)) {
-                goles++;
-                equipoAfectado.setGoles(goles);
-                return "minuto " + minutoActual + "\t: " +
-                        "GOLAZOOOOOOO DE " + jugadorAfectado.getNombre() + " PARA " + equipoAfectado.getNombre();
-            } else {
-                return "minuto " + minutoActual + "\t: "
-                        + "NOOOOO QUE LERDOOOO " + jugadorAfectado.getNombre() + " FALLO TERRIBLEMENTE";
-            }
-
-            // TIRO DE ESQUINA
-        } else if (numGenerado < (prob += PROB_TIRO_EQUINA)) {
-            if (evento.tiroEsquina(jugadorAfectado, jugadorDefensor, porteroDefensor)) {
-                goles++;
-                equipoAfectado.setGoles(goles);
-                return "minuto " + minutoActual + "\t: " +
-                        "QUE BUEN TIRAZOOOOO DE " + jugadorAfectado.getNombre();
-            } else {
-                return "minuto " + minutoActual + "\t: " + "VAYAAA JUGADOR " + jugadorDefensor.getNombre() +
-                        " QUE DEFENSAAA DIOS MIO";
-            }
-
-            // SAQUE DE BANDA
-        } else if (numGenerado < (prob += SAQUE_DE_BANDA)) {
-            if (evento.saqueBanda(jugadorAfectado, jugadorDefensor)) {
-                return "minuto " + minutoActual + "\t: " + jugadorAfectado.getNombre() + " saque exitoso...";
-            } else {
-                return "minuto " + minutoActual + "\t: " + jugadorDefensor.getNombre() + " recibe el saque...";
-            }
-
-            // TARJETA AMARILLA
-        } else if (numGenerado < (prob += PROB_TARJETA_AMARILLA)) {
-            String resultado = evento.tarjetaAmarilla(jugadorAfectado);
-
-            if (resultado != null) {
-                if (resultado.equals("EXPULSION")) {
-                    return "minuto " + minutoActual + "\t: " +
-                            "EXPULSION! " + jugadorAfectado.getNombre() +
-                            " RECIBE SU SEGUNDA TARJETA AMARILLA! AHORA " +
-                            equipoAfectado.getNombre() + " SE QUEDA NO " +
-                            equipoAfectado.contarJugadoresDisponibles() + " JUGADORES!";
-                } else {
-                    return "minuto " + minutoActual + "\t: " +
-                            "Nooo... Tarjeta Amarilla para " + jugadorAfectado.getNombre();
+        switch (tipo) {
+            case TIRO_PUERTA: {
+                boolean gol = evento.tiroPuerta(jugadorAfectado, porteroDefensor);
+                if (gol) {
+                    goles++;
+                    equipoAfectado.setGoles(goles);
                 }
-            } else {
-                return "minuto " + minutoActual + "\t: " + "";
+                return CodigoEvento.codificar(TipoEvento.TIRO_PUERTA, minutoActual, equipo, dorsal,
+                        porteroDefensor.getDorsal(), exito(gol), 0);
             }
 
-            // TARJETA ROJA
-        } else if (numGenerado < (prob += PROB_TARJETA_ROJA)) {
-            if (evento.tarjetaRoja(jugadorAfectado)) {
-                return "minuto " + minutoActual + "\t: " +
-                        "TARJETA ROJA DIRECTA! " + jugadorAfectado.getNombre() +
-                        " QUEDA EXPULSADO! " + equipoAfectado.getNombre() +
-                        " SOLO QUEDA CON " + equipoAfectado.contarJugadoresDisponibles() + " JUGADORES!";
-            } else {
-                return "minuto " + minutoActual + "\t: " + "";
+            case PENAL: {
+                boolean gol = evento.penal(jugadorAfectado, porteroDefensor);
+                if (gol) {
+                    goles++;
+                    equipoAfectado.setGoles(goles);
+                }
+                return CodigoEvento.codificar(TipoEvento.PENAL, minutoActual, equipo, dorsal,
+                        porteroDefensor.getDorsal(), exito(gol), 0);
             }
 
-            // FUERA DE JUEGO
-        } else if (numGenerado < (prob += FUERA_DE_JUEGO)) {
-            if (evento.fueraDeJuego(jugadorAfectado, jugadorDefensor)) {
-                return "minuto " + minutoActual + "\t: " + jugadorAfectado.getNombre() +
-                        " estaba en una posicion adelantada, Se anula la jugada!";
-            } else {
-                return "minuto " + minutoActual + "\t: " + "";
+            case TIRO_LIBRE: {
+                boolean gol = evento.tiroLibre(jugadorAfectado, porteroDefensor);
+                if (gol) {
+                    goles++;
+                    equipoAfectado.setGoles(goles);
+                }
+                return CodigoEvento.codificar(TipoEvento.TIRO_LIBRE, minutoActual, equipo, dorsal,
+                        porteroDefensor.getDorsal(), exito(gol), 0);
+            }
+
+            case TIRO_ESQUINA: {
+                boolean gol = evento.tiroEsquina(jugadorAfectado, jugadorDefensor, porteroDefensor);
+                if (gol) {
+                    goles++;
+                    equipoAfectado.setGoles(goles);
+                }
+                return CodigoEvento.codificar(TipoEvento.TIRO_ESQUINA, minutoActual, equipo, dorsal,
+                        jugadorDefensor.getDorsal(), exito(gol), 0);
+            }
+
+            case SAQUE_BANDA: {
+                boolean exitoso = evento.saqueBanda(jugadorAfectado, jugadorDefensor);
+                return CodigoEvento.codificar(TipoEvento.SAQUE_BANDA, minutoActual, equipo, dorsal,
+                        jugadorDefensor.getDorsal(), exito(exitoso), 0);
+            }
+
+            case TARJETA_AMARILLA: {
+                String resultado = evento.tarjetaAmarilla(jugadorAfectado);
+                int codigoResultado = CodigoEvento.RESULTADO_SIN_TARJETA;
+
+                if (resultado != null) {
+                    codigoResultado = resultado.equals("EXPULSION")
+                            ? CodigoEvento.RESULTADO_EXPULSION
+                            : CodigoEvento.RESULTADO_AMARILLA;
+                }
+                return CodigoEvento.codificar(TipoEvento.TARJETA_AMARILLA, minutoActual, equipo, dorsal, 0,
+                        codigoResultado, equipoAfectado.contarJugadoresDisponibles());
+            }
+
+            case TARJETA_ROJA: {
+                boolean expulsado = evento.tarjetaRoja(jugadorAfectado);
+                return CodigoEvento.codificar(TipoEvento.TARJETA_ROJA, minutoActual, equipo, dorsal, 0,
+                        exito(expulsado), equipoAfectado.contarJugadoresDisponibles());
+            }
+
+            case FUERA_DE_JUEGO: {
+                boolean pitado = evento.fueraDeJuego(jugadorAfectado, jugadorDefensor);
+                return CodigoEvento.codificar(TipoEvento.FUERA_DE_JUEGO, minutoActual, equipo, dorsal,
+                        jugadorDefensor.getDorsal(), exito(pitado), 0);
             }
 
             // LESION (con cambio automático)
-        } else if (numGenerado < (prob += LESION)) {
-            if (evento.lesion(jugadorAfectado)) {
+            case LESION: {
+                if (!evento.lesion(jugadorAfectado)) {
+                    return CodigoEvento.codificar(TipoEvento.LESION, minutoActual, equipo, dorsal, 0,
+                            CodigoEvento.RESULTADO_SIN_LESION, 0);
+                }
+
                 lesiones++;
                 jugadorAfectado.setLesiones(lesiones);
 
                 // Intentar cambio automático
-                Jugador[] suplentes = equipoAfectado.getReserva();
+                List<Jugador> suplentes = equipoAfectado.getSuplentes();
 
-                if (suplentes.length > 0 && equipoAfectado.getCambiosRealizados() < 5) {
+                if (!suplentes.isEmpty() && equipoAfectado.getCambiosRealizados() < 5) {
                     // Buscar primer suplente disponible
                     Jugador suplente = null;
                     for (Jugador sup : suplentes) {
@@ -225,29 +526,28 @@ public class Partido {
                     }
 
                     if (suplente != null && equipoAfectado.cambio(jugadorAfectado, suplente)) {
-                        return "minuto " + minutoActual + "\t: " +
-                                jugadorAfectado.getNombre() + " SE LESIONA, QUE DOLOOR! " +
-                                "Sale del campo y entra... " + suplente.getNombre() + " en su lugar. " +
-                                "Cambio " + equipoAfectado.getCambiosRealizados() + "/5";
-                    } else {
-                        return "minuto " + minutoActual + "\t: " +
-                                jugadorAfectado.getNombre() + " cae lesionado pero NO hay suplentes disponibles!";
-                    }
-                } else {
-                    if (equipoAfectado.getCambiosRealizados() >= 5) {
-                        return "minuto " + minutoActual + "\t: " +
-                                jugadorAfectado.getNombre() + " cae lesionado pero ya se agotaron los cambios! Debe continuar";
-                    } else {
-                        return "minuto " + minutoActual + "\t: " +
-                                jugadorAfectado.getNombre() + " cae lesionado pero NO hay suplentes disponibles!";
+                        return CodigoEvento.codificar(TipoEvento.LESION, minutoActual, equipo, dorsal,
+                                suplente.getDorsal(), CodigoEvento.RESULTADO_CAMBIO,
+                                equipoAfectado.getCambiosRealizados());
                     }
+                    return CodigoEvento.codificar(TipoEvento.LESION, minutoActual, equipo, dorsal, 0,
+                            CodigoEvento.RESULTADO_SIN_SUPLENTES, 0);
                 }
-            } else {
-                return "minuto " + minutoActual + "\t: " + "";
+
+                int resultadoLesion = equipoAfectado.getCambiosRealizados() >= 5
+                        ? CodigoEvento.RESULTADO_SIN_CAMBIOS
+                        : CodigoEvento.RESULTADO_SIN_SUPLENTES;
+                return CodigoEvento.codificar(TipoEvento.LESION, minutoActual, equipo, dorsal, 0,
+                        resultadoLesion, 0);
             }
-        } else {
-            return "minuto " + minutoActual + "\t: " + "";
+
+            default:
+                return CodigoEvento.codificar(TipoEvento.NINGUNO, minutoActual, equipo, 0, 0, 0, 0);
         }
     }
 
-}
\ No newline at end of file
+    private static int exito(boolean exito) {
+        return exito ? CodigoEvento.RESULTADO_EXITO : CodigoEvento.RESULTADO_FALLO;
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.example.core;
+
+/**
+ * Cuenta hasta qué ronda llegó cada equipo en muchas copas simuladas.
+ * Cada hilo llena la suya y al final se combinan sumando, sin locks.
+ *
+ * Las rondas van de 0 (primera ronda) a getNumRondas() - 1 (la final);
+ * la ronda getNumRondas() significa campeón.
+ */
+public class ProbabilidadesCopa {
+
+    private final String[] nombres;
+    private final int rondas;
+
+    // [equipo * (rondas + 1) + ronda] = copas en las que el equipo llegó hasta esa ronda y ahí quedó
+    private final long[] llegadas;
+    private long copas;
+
+    /**
+     * @param nombres Nombre de cada equipo, en el orden de sus índices
+     * @param rondas Número de rondas del cuadro
+     */
+    public ProbabilidadesCopa(String[] nombres, int rondas) {
+        this.nombres = nombres;
+        this.rondas = rondas;
+        this.llegadas = new long[nombres.length * (rondas + 1)];
+    }
+
+    /**
+     * Registra una copa completa.
+     * @param rondaAlcanzada Última ronda que alcanzó cada equipo (rondas = campeón)
+     */
+    public void registrar(int[] rondaAlcanzada) {
+        for (int equipo = 0; equipo < rondaAlcanzada.length; equipo++) {
+            llegadas[equipo * (rondas + 1) + rondaAlcanzada[equipo]]++;
+        }
+        copas++;
+    }
+
+    /**
+     * Suma en esta tabla los conteos de otra.
+     * @return Esta misma tabla, para encadenar
+     */
+    public ProbabilidadesCopa combinar(ProbabilidadesCopa otra) {
+        for (int i = 0; i < llegadas.length; i++) {
+            llegadas[i] += otra.llegadas[i];
+        }
+        copas += otra.copas;
+        return this;
+    }
+
+    // ===== GETTERS =====
+
+    public long getCopas() {
+        return copas;
+    }
+
+    public int getNumEquipos() {
+        return nombres.length;
+    }
+
+    public int getNumRondas() {
+        return rondas;
+    }
+
+    public String getNombre(int equipo) {
+        return nombres[equipo];
+    }
+
+    /**
+     * Probabilidad de que un equipo llegue al menos a una ronda.
+     * @param equipo Índice del equipo
+     * @param ronda Ronda (0 = primera, getNumRondas() = campeón)
+     */
+    public double getProbabilidadAlcanzar(int equipo, int ronda) {
+        if (copas == 0) {
+            return 0.0;
+        }
+        long total = 0;
+        for (int r = ronda; r <= rondas; r++) {
+            total += llegadas[equipo * (rondas + 1) + r];
+        }
+        return (double) total / copas;
+    }
+
+    public double getProbabilidadCampeon(int equipo) {
+        return getProbabilidadAlcanzar(equipo, rondas);
+    }
+
+    /**
+     * Nombre de una ronda contando desde la final.
+     * @param ronda Ronda (0 = primera, getNumRondas() = campeón)
+     */
+    public String getNombreRonda(int ronda) {
+        int desdeFinal = rondas - ronda;
+        switch (desdeFinal) {
+            case 0: return "Campeón";
+            case 1: return "Final";
+            case 2: return "Semifinal";
+            case 3: return "Cuartos";
+            case 4: return "Octavos";
+            default: return "Ronda " + (ronda + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("%-22s", "Equipo"));
+        for (int ronda = 1; ronda <= rondas; ronda++) {
+            sb.append(String.format(" %9s", getNombreRonda(ronda)));
+        }
+        sb.append(System.lineSeparator());
+        for (int equipo = 0; equipo < nombres.length; equipo++) {
+            sb.append(String.format("%-22s", nombres[equipo]));
+            for (int ronda = 1; ronda <= rondas; ronda++) {
+                sb.append(String.format(" %8.2f%%", getProbabilidadAlcanzar(equipo, ronda) * 100));
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.core;
+
+/**
+ * Cuenta en qué posición terminó cada equipo a lo largo de muchas temporadas simuladas.
+ * Igual que DistribucionResultados, cada hilo llena la suya y al final se combinan sumando.
+ */
+public class ProbabilidadesLiga {
+
+    private final String[] nombres;
+    private final int descensos;
+
+    // [equipo * numEquipos + posicion] = temporadas que el equipo terminó en esa posición
+    private final long[] posiciones;
+    private long temporadas;
+
+    /**
+     * @param nombres Nombre de cada equipo, en el orden de sus índices
+     * @param descensos Cuántos equipos descienden al final de la temporada
+     */
+    public ProbabilidadesLiga(String[] nombres, int descensos) {
+        this.nombres = nombres;
+        this.descensos = descensos;
+        this.posiciones = new long[nombres.length * nombres.length];
+    }
+
+    /**
+     * Registra la clasificación final de una temporada.
+     * @param clasificacion Índices de los equipos del primero al último
+     */
+    public void registrar(int[] clasificacion) {
+        for (int posicion = 0; posicion < clasificacion.length; posicion++) {
+            posiciones[clasificacion[posicion] * nombres.length + posicion]++;
+        }
+        temporadas++;
+    }
+
+    /**
+     * Suma en esta tabla los conteos de otra.
+     * @return Esta misma tabla, para encadenar
+     */
+    public ProbabilidadesLiga combinar(ProbabilidadesLiga otra) {
+        for (int i = 0; i < posiciones.length; i++) {
+            posiciones[i] += otra.posiciones[i];
+        }
+        temporadas += otra.temporadas;
+        return this;
+    }
+
+    // ===== GETTERS =====
+
+    public long getTemporadas() {
+        return temporadas;
+    }
+
+    public int getNumEquipos() {
+        return nombres.length;
+    }
+
+    public String getNombre(int equipo) {
+        return nombres[equipo];
+    }
+
+    /**
+     * Probabilidad de que un equipo termine en una posición.
+     * @param equipo Índice del equipo
+     * @param posicion Posición final, 0 = campeón
+     */
+    public double getProbabilidadPosicion(int equipo, int posicion) {
+        return temporadas == 0 ? 0.0 : (double) posiciones[equipo * nombres.length + posicion] / temporadas;
+    }
+
+    public double getProbabilidadTitulo(int equipo) {
+        return getProbabilidadPosicion(equipo, 0);
+    }
+
+    /**
+     * Probabilidad de terminar en alguno de los últimos puestos de descenso.
+     */
+    public double getProbabilidadDescenso(int equipo) {
+        double total = 0;
+        for (int posicion = nombres.length - descensos; posicion < nombres.length; posicion++) {
+            total += getProbabilidadPosicion(equipo, posicion);
+        }
+        return total;
+    }
+
+    /**
+     * Posición final promedio (1 = campeón).
+     */
+    public double getPosicionPromedio(int equipo) {
+        double suma = 0;
+        for (int posicion = 0; posicion < nombres.length; posicion++) {
+            suma += (posicion + 1) * getProbabilidadPosicion(equipo, posicion);
+        }
+        return suma;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %8s %8s %8s%n", "Equipo", "Título", "Descenso", "Pos."));
+        for (int equipo = 0; equipo < nombres.length; equipo++) {
+            sb.append(String.format("%-22s %7.2f%% %7.2f%% %8.2f%n", nombres[equipo],
+                    getProbabilidadTitulo(equipo) * 100, getProbabilidadDescenso(equipo) * 100,
+                    getPosicionPromedio(equipo)));
+        }
+        return sb.toString();
+    }
+}
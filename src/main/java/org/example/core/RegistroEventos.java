@@ -0,0 +1,47 @@
+package org.example.core;
+
+import java.util.Arrays;
+
+/**
+ * Buffer reutilizable de códigos de evento (ver CodigoEvento).
+ * Se limpia entre partidos en lugar de crear uno nuevo, así que después
+ * de los primeros partidos ya no reserva memoria.
+ */
+public class RegistroEventos {
+
+    private int[] codigos;
+    private int tamano;
+
+    public RegistroEventos() {
+        this(64);
+    }
+
+    public RegistroEventos(int capacidadInicial) {
+        this.codigos = new int[Math.max(capacidadInicial, 1)];
+    }
+
+    public void agregar(int codigo) {
+        if (tamano == codigos.length) {
+            codigos = Arrays.copyOf(codigos, tamano * 2);
+        }
+        codigos[tamano++] = codigo;
+    }
+
+    /**
+     * Vacía el registro conservando la memoria reservada.
+     */
+    public void limpiar() {
+        tamano = 0;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    public int getCodigo(int indice) {
+        if (indice < 0 || indice >= tamano) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fuera del registro (" + tamano + ")");
+        }
+        return codigos[indice];
+    }
+}
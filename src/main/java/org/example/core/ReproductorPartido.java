@@ -0,0 +1,117 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.enums.ModoSimulacion;
+
+/**
+ * Reconstruye el estado exacto de un partido en cualquier minuto a partir de su
+ * semilla y de los equipos iniciales, sin guardar los eventos.
+ *
+ * Al avanzar se guarda una copia del partido (punto de control) cada INTERVALO minutos,
+ * así que pedir otro minuto solo rejuega desde el punto de control anterior: el costo
+ * de cada consulta es a lo sumo el intervalo, no el partido entero.
+ *
+ * Por defecto se juega minuto a minuto, igual que la ventana del simulador
+ * (Partido.procesarMinuto), así que un partido de la interfaz se puede auditar con
+ * la semilla y copias de los equipos antes del saque inicial.
+ *
+ * NOTA: No es seguro entre hilos.
+ */
+public class ReproductorPartido {
+
+    public static final int INTERVALO_POR_DEFECTO = 10;
+
+    private final long semilla;
+    private final ModoSimulacion modo;
+    private final int intervalo;
+
+    // Punto de control k: partido con los minutos 0 a k * intervalo - 1 ya jugados
+    private final Partido[] puntosControl;
+    private int ultimoPuntoControl;
+
+    /**
+     * Constructor con puntos de control cada INTERVALO_POR_DEFECTO minutos, minuto a minuto.
+     * @param local Equipo local antes del saque inicial (se copia)
+     * @param visitante Equipo visitante antes del saque inicial (se copia)
+     * @param semilla Semilla del partido
+     */
+    public ReproductorPartido(Equipos local, Equipos visitante, long semilla) {
+        this(local, visitante, semilla, ModoSimulacion.POR_MINUTO, INTERVALO_POR_DEFECTO);
+    }
+
+    /**
+     * @param local Equipo local antes del saque inicial (se copia)
+     * @param visitante Equipo visitante antes del saque inicial (se copia)
+     * @param semilla Semilla del partido
+     * @param modo Forma en que se jugó el partido original
+     * @param intervalo Minutos entre puntos de control, al menos 1
+     * @throws IllegalArgumentException si el intervalo no es positivo
+     */
+    public ReproductorPartido(Equipos local, Equipos visitante, long semilla, ModoSimulacion modo, int intervalo) {
+        if (intervalo < 1) {
+            throw new IllegalArgumentException("El intervalo entre puntos de control debe ser al menos 1");
+        }
+        this.semilla = semilla;
+        this.modo = modo;
+        this.intervalo = intervalo;
+        this.puntosControl = new Partido[EjecutorPartido.MINUTOS_PRORROGA / intervalo + 2];
+        this.puntosControl[0] = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+    }
+
+    // ===== GETTERS =====
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    public ModoSimulacion getModo() {
+        return modo;
+    }
+
+    public int getIntervalo() {
+        return intervalo;
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Estado del partido justo después de jugar el minuto indicado.
+     * Devuelve una copia nueva que se puede modificar o seguir jugando.
+     * @param minuto Último minuto jugado (0 a EjecutorPartido.MINUTOS_PRORROGA)
+     * @return Partido con los minutos 0 a minuto ya jugados
+     * @throws IllegalArgumentException si el minuto está fuera de rango
+     */
+    public Partido getEstado(int minuto) {
+        if (minuto < 0 || minuto > EjecutorPartido.MINUTOS_PRORROGA) {
+            throw new IllegalArgumentException("Minuto fuera de rango: " + minuto);
+        }
+        return avanzarHasta(minuto + 1);
+    }
+
+    /**
+     * Estado antes del saque inicial (ningún minuto jugado).
+     */
+    public Partido getEstadoInicial() {
+        return new Partido(puntosControl[0]);
+    }
+
+    /**
+     * Rejuega desde el punto de control más cercano hasta que el próximo minuto por
+     * jugar sea minutoSiguiente, guardando los puntos de control que falten.
+     */
+    private Partido avanzarHasta(int minutoSiguiente) {
+        int objetivo = minutoSiguiente / intervalo;
+        int k = Math.min(objetivo, ultimoPuntoControl);
+        Partido partido = new Partido(puntosControl[k]);
+
+        while (k < objetivo) {
+            k++;
+            partido.jugarHasta(k * intervalo - 1, modo);
+            puntosControl[k] = new Partido(partido);
+            ultimoPuntoControl = k;
+        }
+
+        partido.jugarHasta(minutoSiguiente - 1, modo);
+        return partido;
+    }
+}
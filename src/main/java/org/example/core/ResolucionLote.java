@@ -0,0 +1,45 @@
+package org.example.core;
+
+/**
+ * Resuelve un mismo tipo de evento para muchos partidos de una vez.
+ * LotePartidos junta los tiros a puerta de un minuto de todos sus partidos
+ * y los resuelve aquí en dos recorridos sobre arreglos primitivos:
+ * primero se leen las probabilidades de TablasEventos y después se comparan
+ * con los números aleatorios ya sorteados.
+ *
+ * Separar la búsqueda en la tabla de la comparación deja dos bucles cortos sobre
+ * arreglos que ya están en memoria, sin llamadas ni objetos por tiro. Los
+ * resultados son idénticos a resolver cada tiro por separado.
+ */
+public final class ResolucionLote {
+
+    private ResolucionLote() {
+    }
+
+    /**
+     * Probabilidad de gol de n tiros a puerta.
+     * @param n Número de tiros
+     * @param potencia5 5 * tiro + velocidad de cada tirador
+     * @param reflejos Reflejos del portero de cada tiro
+     * @param probabilidad Salida: probabilidad de gol de cada tiro
+     */
+    public static void probabilidadesTiroPuerta(int n, int[] potencia5, int[] reflejos, double[] probabilidad) {
+        for (int i = 0; i < n; i++) {
+            probabilidad[i] = TablasEventos.tiroPuertaPorPotencia(potencia5[i], reflejos[i]);
+        }
+    }
+
+    /**
+     * Decide n eventos comparando su número aleatorio con su probabilidad.
+     * Sirve para cualquier tipo de evento.
+     * @param n Número de eventos
+     * @param azar Número uniforme en [0, 1) ya sorteado para cada evento
+     * @param probabilidad Probabilidad de éxito de cada evento
+     * @param exito Salida: true si el evento tuvo éxito
+     */
+    public static void resolver(int n, double[] azar, double[] probabilidad, boolean[] exito) {
+        for (int i = 0; i < n; i++) {
+            exito[i] = azar[i] < probabilidad[i];
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.core;
+
+/**
+ * Resultado final de un partido simulado sin interfaz gráfica.
+ * Guarda el marcador y un resumen de tarjetas y cambios de cada equipo.
+ * En una eliminatoria también indica si hubo prórroga y el resultado de la tanda de penales.
+ */
+public class ResultadoPartido {
+
+    private final int golesLocal;
+    private final int golesVisitante;
+    private final int amarillasLocal;
+    private final int amarillasVisitante;
+    private final int rojasLocal;
+    private final int rojasVisitante;
+    private final int cambiosLocal;
+    private final int cambiosVisitante;
+
+    private boolean prorroga;
+    private int penalesLocal = -1;
+    private int penalesVisitante = -1;
+
+    ResultadoPartido(int golesLocal, int golesVisitante,
+                     int amarillasLocal, int amarillasVisitante,
+                     int rojasLocal, int rojasVisitante,
+                     int cambiosLocal, int cambiosVisitante) {
+        this.golesLocal = golesLocal;
+        this.golesVisitante = golesVisitante;
+        this.amarillasLocal = amarillasLocal;
+        this.amarillasVisitante = amarillasVisitante;
+        this.rojasLocal = rojasLocal;
+        this.rojasVisitante = rojasVisitante;
+        this.cambiosLocal = cambiosLocal;
+        this.cambiosVisitante = cambiosVisitante;
+    }
+
+    /**
+     * Marca el resultado como de eliminatoria.
+     * @param prorroga true si se jugaron los minutos 91 a 120
+     * @param penalesLocal Penales anotados por el local (-1 si no hubo tanda)
+     * @param penalesVisitante Penales anotados por el visitante (-1 si no hubo tanda)
+     */
+    void registrarEliminatoria(boolean prorroga, int penalesLocal, int penalesVisitante) {
+        this.prorroga = prorroga;
+        this.penalesLocal = penalesLocal;
+        this.penalesVisitante = penalesVisitante;
+    }
+
+    // ===== GETTERS =====
+
+    public int getGolesLocal() {
+        return golesLocal;
+    }
+    public int getGolesVisitante() {
+        return golesVisitante;
+    }
+    public int getAmarillasLocal() {
+        return amarillasLocal;
+    }
+    public int getAmarillasVisitante() {
+        return amarillasVisitante;
+    }
+    public int getRojasLocal() {
+        return rojasLocal;
+    }
+    public int getRojasVisitante() {
+        return rojasVisitante;
+    }
+    public int getCambiosLocal() {
+        return cambiosLocal;
+    }
+    public int getCambiosVisitante() {
+        return cambiosVisitante;
+    }
+    public boolean isProrroga() {
+        return prorroga;
+    }
+    public boolean isPenales() {
+        return penalesLocal >= 0;
+    }
+    public int getPenalesLocal() {
+        return penalesLocal;
+    }
+    public int getPenalesVisitante() {
+        return penalesVisitante;
+    }
+
+    /**
+     * Obtiene el ganador según el marcador (incluida la prórroga, sin contar penales)
+     * con los mismos textos que usa el centro de apuestas.
+     * @return "Local", "Visita" o "Empate"
+     */
+    public String getGanador() {
+        if (golesLocal > golesVisitante) {
+            return "Local";
+        } else if (golesVisitante > golesLocal) {
+            return "Visita";
+        }
+        return "Empate";
+    }
+
+    /**
+     * Equipo que avanza en una eliminatoria: el ganador del marcador o, si hubo
+     * empate, el de la tanda de penales.
+     * @return "Local", "Visita" o "Empate" (solo si empataron y no hubo penales)
+     */
+    public String getClasificado() {
+        if (golesLocal == golesVisitante && isPenales()) {
+            return penalesLocal > penalesVisitante ? "Local" : "Visita";
+        }
+        return getGanador();
+    }
+
+    @Override
+    public String toString() {
+        String texto = golesLocal + " - " + golesVisitante;
+        if (isPenales()) {
+            texto += " (" + penalesLocal + " - " + penalesVisitante + " pen.)";
+        } else if (prorroga) {
+            texto += " (pró.)";
+        }
+        return texto;
+    }
+}
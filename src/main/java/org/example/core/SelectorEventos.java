@@ -0,0 +1,144 @@
+package org.example.core;
+
+import org.example.enums.TipoEvento;
+import org.example.util.Aleatorio;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Elige el tipo de evento de cada minuto en O(1).
+ * Las probabilidades (en %) se reparten una sola vez en una tabla de RESOLUCION casillas;
+ * cada minuto solo se sortea una casilla y se lee su tipo, sin recorrer una cadena de if.
+ *
+ * Cada casilla vale 0.1%, así que las probabilidades con un decimal (como las de Partido)
+ * se respetan exactamente. La parte sin asignar corresponde a minutos sin evento.
+ *
+ * Para la simulación por eventos también guarda la probabilidad de que un minuto tenga
+ * evento y una segunda tabla solo con las casillas ocupadas, para sortear el tipo
+ * sabiendo que el minuto sí tiene evento.
+ */
+public class SelectorEventos {
+
+    public static final int RESOLUCION = 1000;
+
+    // Ordinal de TipoEvento en cada casilla
+    private final byte[] casillas = new byte[RESOLUCION];
+    private final byte[] casillasConEvento;
+    private final Map<TipoEvento, Double> probabilidades;
+
+    private final double probabilidadEvento;
+    private final double logSinEvento;
+
+    /**
+     * Construye el selector a partir de la probabilidad (en %) de cada evento.
+     * Los tipos que no aparecen en el mapa tienen probabilidad 0.
+     * @param probabilidades Probabilidad por minuto de cada tipo, entre 0 y 100
+     * @throws IllegalArgumentException si hay valores negativos, si la suma pasa de 100
+     *         o si se incluye NINGUNO o SIN_JUGADORES
+     */
+    public SelectorEventos(Map<TipoEvento, Double> probabilidades) {
+        this.probabilidades = new EnumMap<>(TipoEvento.class);
+
+        double acumulado = 0;
+        int casilla = 0;
+
+        // EnumMap recorre en el orden del enum, el mismo de la cascada original
+        for (Map.Entry<TipoEvento, Double> entrada : new EnumMap<>(probabilidades).entrySet()) {
+            TipoEvento tipo = entrada.getKey();
+            double probabilidad = entrada.getValue();
+
+            if (tipo == TipoEvento.NINGUNO || tipo == TipoEvento.SIN_JUGADORES) {
+                throw new IllegalArgumentException("No se puede asignar probabilidad a " + tipo);
+            }
+            if (probabilidad < 0) {
+                throw new IllegalArgumentException("Probabilidad negativa para " + tipo);
+            }
+
+            acumulado += probabilidad;
+            if (acumulado > 100.0 + 1e-9) {
+                throw new IllegalArgumentException("Las probabilidades suman más de 100%");
+            }
+
+            // Se redondea el acumulado para que los errores no se sumen entre eventos
+            int fin = (int) Math.round(acumulado * RESOLUCION / 100.0);
+            for (; casilla < fin; casilla++) {
+                casillas[casilla] = (byte) tipo.ordinal();
+            }
+            this.probabilidades.put(tipo, probabilidad);
+        }
+
+        // Las casillas ocupadas son un prefijo de la tabla
+        this.casillasConEvento = Arrays.copyOf(casillas, casilla);
+        this.probabilidadEvento = (double) casilla / RESOLUCION;
+        this.logSinEvento = Math.log(1.0 - probabilidadEvento);
+
+        for (; casilla < RESOLUCION; casilla++) {
+            casillas[casilla] = (byte) TipoEvento.NINGUNO.ordinal();
+        }
+    }
+
+    /**
+     * Sortea el tipo de evento de un minuto.
+     * @param random Generador del partido
+     * @return Tipo de evento (NINGUNO si el minuto no tiene evento)
+     */
+    public TipoEvento elegir(Aleatorio random) {
+        return TipoEvento.desdeOrdinal(casillas[random.siguienteEntero(RESOLUCION)]);
+    }
+
+    /**
+     * Tipo de evento de una casilla (0 a RESOLUCION - 1) ya sorteada.
+     * Lo usa LotePartidos, que guarda los generadores como columnas de long.
+     */
+    TipoEvento tipoEnCasilla(int casilla) {
+        return TipoEvento.desdeOrdinal(casillas[casilla]);
+    }
+
+    /**
+     * Sortea cuántos minutos seguidos sin evento hay antes del próximo evento.
+     * Sigue una distribución geométrica con la probabilidad de evento por minuto,
+     * la misma que resulta de sortear minuto a minuto con elegir().
+     * @param random Generador del partido
+     * @return Minutos sin evento antes del siguiente (0 = el próximo minuto tiene evento)
+     */
+    public int saltoHastaEvento(Aleatorio random) {
+        if (casillasConEvento.length == 0) {
+            return Integer.MAX_VALUE;
+        }
+        // 1 - u está en (0, 1], así que el logaritmo nunca es infinito
+        double u = random.siguienteDouble();
+        return (int) Math.floor(Math.log(1.0 - u) / logSinEvento);
+    }
+
+    /**
+     * Sortea el tipo de evento de un minuto que ya se sabe que tiene evento.
+     * @param random Generador del partido
+     * @return Tipo de evento (nunca NINGUNO)
+     * @throws IllegalStateException si el selector no tiene ningún evento
+     */
+    public TipoEvento elegirEvento(Aleatorio random) {
+        if (casillasConEvento.length == 0) {
+            throw new IllegalStateException("El selector no tiene eventos con probabilidad mayor a 0");
+        }
+        return TipoEvento.desdeOrdinal(casillasConEvento[random.siguienteEntero(casillasConEvento.length)]);
+    }
+
+    /**
+     * Probabilidad (entre 0 y 1) de que un minuto tenga algún evento.
+     */
+    public double getProbabilidadEvento() {
+        return probabilidadEvento;
+    }
+
+    /**
+     * Probabilidad configurada (en %) de un tipo de evento.
+     * @param tipo Tipo de evento
+     * @return Probabilidad por minuto, 0 si no se configuró
+     */
+    public double getProbabilidad(TipoEvento tipo) {
+        Double probabilidad = probabilidades.get(tipo);
+        return probabilidad != null ? probabilidad : 0.0;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Estima las probabilidades de un enfrentamiento simulando muchos partidos en paralelo.
+ * Cada partido juega con copias de los equipos plantilla, así que las plantillas
+ * nunca se modifican y se pueden leer desde todos los hilos a la vez.
+ *
+ * La semilla de cada partido depende solo de la semilla base y del número de partido,
+ * así que el resultado es idéntico sin importar cuántos hilos se usen.
+ */
+public class SimulacionMonteCarlo {
+
+    private final Equipos plantillaLocal;
+    private final Equipos plantillaVisitante;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor que usa el pool común de fork/join.
+     * @param local Equipo local (no se modifica)
+     * @param visitante Equipo visitante (no se modifica)
+     */
+    public SimulacionMonteCarlo(Equipos local, Equipos visitante) {
+        this(local, visitante, ForkJoinPool.commonPool());
+    }
+
+    public SimulacionMonteCarlo(Equipos local, Equipos visitante, ForkJoinPool pool) {
+        this.plantillaLocal = local;
+        this.plantillaVisitante = visitante;
+        this.pool = pool;
+    }
+
+    /**
+     * Simula partidos independientes y devuelve la distribución de marcadores.
+     * @param partidos Número de partidos a simular
+     * @return Distribución con victorias, empates y marcadores exactos
+     */
+    public DistribucionResultados simular(int partidos) {
+        return simular(partidos, new Aleatorio().siguienteLong());
+    }
+
+    /**
+     * Simula partidos independientes a partir de una semilla base (reproducible).
+     * @param partidos Número de partidos a simular
+     * @param semilla Semilla base de la simulación
+     * @return Distribución con victorias, empates y marcadores exactos
+     */
+    public DistribucionResultados simular(int partidos, long semilla) {
+        return SimulacionParalela.ejecutar(pool, partidos,
+                () -> new Trabajador(semilla),
+                Trabajador::jugar,
+                Trabajador::combinar).distribucion;
+    }
+
+    /**
+     * Estado de un bloque de simulaciones: su propio ejecutor y su histograma.
+     */
+    private class Trabajador {
+        private final EjecutorPartido ejecutor = new EjecutorPartido();
+        private final DistribucionResultados distribucion = new DistribucionResultados();
+        private final long semilla;
+
+        Trabajador(long semilla) {
+            this.semilla = semilla;
+        }
+
+        void jugar(int indice) {
+            ResultadoPartido resultado = ejecutor.jugar(
+                    new Equipos(plantillaLocal), new Equipos(plantillaVisitante),
+                    Aleatorio.semillaDerivada(semilla, indice));
+            distribucion.registrar(resultado.getGolesLocal(), resultado.getGolesVisitante());
+        }
+
+        Trabajador combinar(Trabajador otro) {
+            distribucion.combinar(otro.distribucion);
+            return this;
+        }
+    }
+}
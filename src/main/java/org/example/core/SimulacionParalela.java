@@ -0,0 +1,95 @@
+package org.example.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Reparte simulaciones independientes entre los núcleos usando fork/join.
+ * El rango [0, total) se divide hasta bloques de tamaño UMBRAL; cada bloque
+ * trabaja sobre su propio acumulador y los acumuladores se combinan al unir
+ * las tareas. No hay estado compartido ni locks mientras se simula.
+ */
+public final class SimulacionParalela {
+
+    // Cantidad de simulaciones por bloque antes de dejar de dividir
+    private static final int UMBRAL = 256;
+
+    private SimulacionParalela() {
+    }
+
+    /**
+     * Ejecuta total simulaciones en el pool común.
+     * @param total Número de simulaciones (índices 0..total-1)
+     * @param crear Crea un acumulador vacío para cada bloque
+     * @param simular Ejecuta la simulación de un índice sobre el acumulador del bloque
+     * @param combinar Junta dos acumuladores en uno
+     * @return Acumulador con todas las simulaciones
+     */
+    public static <A> A ejecutar(int total, Supplier<A> crear, ObjIntConsumer<A> simular,
+                                 BinaryOperator<A> combinar) {
+        return ejecutar(ForkJoinPool.commonPool(), total, crear, simular, combinar);
+    }
+
+    public static <A> A ejecutar(ForkJoinPool pool, int total, Supplier<A> crear,
+                                 ObjIntConsumer<A> simular, BinaryOperator<A> combinar) {
+        return ejecutar(pool, total, UMBRAL, crear, simular, combinar);
+    }
+
+    /**
+     * Igual que ejecutar, con otro tamaño de bloque. Sirve cuando hay pocas
+     * simulaciones pero cada una es larga (por ejemplo, los partidos de una jornada).
+     * @param umbral Máximo de simulaciones por bloque, al menos 1
+     */
+    public static <A> A ejecutar(ForkJoinPool pool, int total, int umbral, Supplier<A> crear,
+                                 ObjIntConsumer<A> simular, BinaryOperator<A> combinar) {
+        if (total < 0) {
+            throw new IllegalArgumentException("El número de simulaciones no puede ser negativo");
+        }
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser al menos 1");
+        }
+        return pool.invoke(new Tarea<>(0, total, umbral, crear, simular, combinar));
+    }
+
+    private static class Tarea<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final int desde;
+        private final int hasta;
+        private final int umbral;
+        private final Supplier<A> crear;
+        private final ObjIntConsumer<A> simular;
+        private final BinaryOperator<A> combinar;
+
+        Tarea(int desde, int hasta, int umbral, Supplier<A> crear, ObjIntConsumer<A> simular,
+              BinaryOperator<A> combinar) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.umbral = umbral;
+            this.crear = crear;
+            this.simular = simular;
+            this.combinar = combinar;
+        }
+
+        @Override
+        protected A compute() {
+            if (hasta - desde <= umbral) {
+                A acumulador = crear.get();
+                for (int i = desde; i < hasta; i++) {
+                    simular.accept(acumulador, i);
+                }
+                return acumulador;
+            }
+
+            int mitad = (desde + hasta) >>> 1;
+            Tarea<A> izquierda = new Tarea<>(desde, mitad, umbral, crear, simular, combinar);
+            Tarea<A> derecha = new Tarea<>(mitad, hasta, umbral, crear, simular, combinar);
+            izquierda.fork();
+            A resultadoDerecha = derecha.compute();
+            return combinar.apply(izquierda.join(), resultadoDerecha);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.core;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Suscriptor simple para TransmisionPartido: procesa cada evento con una acción y
+ * pide más eventos de a poco (de a lote), así el publicador nunca le manda más de
+ * lo que puede procesar.
+ */
+public class SuscriptorEventos implements Flow.Subscriber<EventoPartido> {
+
+    public static final int LOTE_POR_DEFECTO = 16;
+
+    private final Consumer<EventoPartido> accion;
+    private final Consumer<Throwable> alError;
+    private final Runnable alTerminar;
+    private final int lote;
+
+    private Flow.Subscription suscripcion;
+    private int pendientes;
+    private volatile Throwable error;
+
+    public SuscriptorEventos(Consumer<EventoPartido> accion) {
+        this(accion, () -> { }, LOTE_POR_DEFECTO);
+    }
+
+    /**
+     * @param accion Se ejecuta con cada evento, en el hilo del publicador
+     * @param alTerminar Se ejecuta cuando la transmisión termina (normal o con error)
+     * @param lote Eventos que se piden cada vez, al menos 1
+     */
+    public SuscriptorEventos(Consumer<EventoPartido> accion, Runnable alTerminar, int lote) {
+        this(accion, error -> { }, alTerminar, lote);
+    }
+
+    /**
+     * @param accion Se ejecuta con cada evento, en el hilo del publicador
+     * @param alError Se ejecuta si la transmisión termina con error, antes de alTerminar
+     * @param alTerminar Se ejecuta cuando la transmisión termina (normal o con error)
+     * @param lote Eventos que se piden cada vez, al menos 1
+     */
+    public SuscriptorEventos(Consumer<EventoPartido> accion, Consumer<Throwable> alError, Runnable alTerminar,
+                             int lote) {
+        if (lote < 1) {
+            throw new IllegalArgumentException("El lote debe ser al menos 1");
+        }
+        this.accion = accion;
+        this.alError = alError;
+        this.alTerminar = alTerminar;
+        this.lote = lote;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription suscripcion) {
+        this.suscripcion = suscripcion;
+        pendientes = lote;
+        suscripcion.request(lote);
+    }
+
+    @Override
+    public void onNext(EventoPartido evento) {
+        accion.accept(evento);
+        // Se pide el siguiente lote cuando se terminó el anterior
+        if (--pendientes == 0) {
+            pendientes = lote;
+            suscripcion.request(lote);
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        this.error = error;
+        alError.accept(error);
+        alTerminar.run();
+    }
+
+    @Override
+    public void onComplete() {
+        alTerminar.run();
+    }
+
+    /**
+     * Error con el que terminó la transmisión, o null si no terminó con error.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Deja de recibir eventos.
+     */
+    public void cancelar() {
+        if (suscripcion != null) {
+            suscripcion.cancel();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.core;
+
+import java.util.Arrays;
+
+/**
+ * Tabla de posiciones de una temporada de liga.
+ * Guarda puntos, goles y el resultado de cada enfrentamiento directo para poder
+ * desempatar.
+ *
+ * Criterios de orden: puntos, luego una mini liga entre los equipos empatados
+ * (puntos, diferencia de goles y goles a favor solo en sus partidos entre sí),
+ * luego diferencia de goles general, goles a favor y por último el índice del equipo.
+ */
+public class TablaLiga {
+
+    public static final int PUNTOS_VICTORIA = 3;
+    public static final int PUNTOS_EMPATE = 1;
+
+    private final int numEquipos;
+    private final int[] puntos;
+    private final int[] golesFavor;
+    private final int[] golesContra;
+    private final int[] ganados;
+    private final int[] empatados;
+    private final int[] perdidos;
+
+    // [i * numEquipos + j] = puntos / goles de i en sus partidos contra j
+    private final int[] puntosEntre;
+    private final int[] golesEntre;
+
+    public TablaLiga(int numEquipos) {
+        if (numEquipos < 2) {
+            throw new IllegalArgumentException("Una liga necesita al menos 2 equipos");
+        }
+        this.numEquipos = numEquipos;
+        this.puntos = new int[numEquipos];
+        this.golesFavor = new int[numEquipos];
+        this.golesContra = new int[numEquipos];
+        this.ganados = new int[numEquipos];
+        this.empatados = new int[numEquipos];
+        this.perdidos = new int[numEquipos];
+        this.puntosEntre = new int[numEquipos * numEquipos];
+        this.golesEntre = new int[numEquipos * numEquipos];
+    }
+
+    /**
+     * Registra el resultado de un partido.
+     * @param local Índice del equipo local
+     * @param visitante Índice del equipo visitante
+     * @param golesLocal Goles del local
+     * @param golesVisitante Goles del visitante
+     */
+    public void registrar(int local, int visitante, int golesLocal, int golesVisitante) {
+        golesFavor[local] += golesLocal;
+        golesContra[local] += golesVisitante;
+        golesFavor[visitante] += golesVisitante;
+        golesContra[visitante] += golesLocal;
+        golesEntre[local * numEquipos + visitante] += golesLocal;
+        golesEntre[visitante * numEquipos + local] += golesVisitante;
+
+        if (golesLocal > golesVisitante) {
+            sumarPuntos(local, visitante, PUNTOS_VICTORIA);
+            ganados[local]++;
+            perdidos[visitante]++;
+        } else if (golesLocal < golesVisitante) {
+            sumarPuntos(visitante, local, PUNTOS_VICTORIA);
+            ganados[visitante]++;
+            perdidos[local]++;
+        } else {
+            sumarPuntos(local, visitante, PUNTOS_EMPATE);
+            sumarPuntos(visitante, local, PUNTOS_EMPATE);
+            empatados[local]++;
+            empatados[visitante]++;
+        }
+    }
+
+    private void sumarPuntos(int equipo, int rival, int cantidad) {
+        puntos[equipo] += cantidad;
+        puntosEntre[equipo * numEquipos + rival] += cantidad;
+    }
+
+    // ===== CLASIFICACIÓN =====
+
+    /**
+     * Índices de los equipos ordenados del primero al último.
+     * @return Arreglo nuevo donde la posición 0 es el líder
+     */
+    public int[] getClasificacion() {
+        Integer[] orden = new Integer[numEquipos];
+        for (int i = 0; i < numEquipos; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> Integer.compare(puntos[b], puntos[a]));
+
+        // Desempatar cada grupo de equipos con los mismos puntos
+        int inicio = 0;
+        while (inicio < numEquipos) {
+            int fin = inicio + 1;
+            while (fin < numEquipos && puntos[orden[fin]] == puntos[orden[inicio]]) {
+                fin++;
+            }
+            if (fin - inicio > 1) {
+                desempatar(orden, inicio, fin);
+            }
+            inicio = fin;
+        }
+
+        int[] clasificacion = new int[numEquipos];
+        for (int i = 0; i < numEquipos; i++) {
+            clasificacion[i] = orden[i];
+        }
+        return clasificacion;
+    }
+
+    /**
+     * Ordena orden[inicio, fin) (equipos con los mismos puntos) con la mini liga entre ellos.
+     */
+    private void desempatar(Integer[] orden, int inicio, int fin) {
+        int[] puntosGrupo = new int[numEquipos];
+        int[] diferenciaGrupo = new int[numEquipos];
+        int[] golesGrupo = new int[numEquipos];
+
+        for (int x = inicio; x < fin; x++) {
+            int i = orden[x];
+            for (int y = inicio; y < fin; y++) {
+                int j = orden[y];
+                if (i != j) {
+                    puntosGrupo[i] += puntosEntre[i * numEquipos + j];
+                    golesGrupo[i] += golesEntre[i * numEquipos + j];
+                    diferenciaGrupo[i] += golesEntre[i * numEquipos + j] - golesEntre[j * numEquipos + i];
+                }
+            }
+        }
+
+        Arrays.sort(orden, inicio, fin, (a, b) -> {
+            if (puntosGrupo[a] != puntosGrupo[b]) return Integer.compare(puntosGrupo[b], puntosGrupo[a]);
+            if (diferenciaGrupo[a] != diferenciaGrupo[b]) return Integer.compare(diferenciaGrupo[b], diferenciaGrupo[a]);
+            if (golesGrupo[a] != golesGrupo[b]) return Integer.compare(golesGrupo[b], golesGrupo[a]);
+            if (getDiferenciaGoles(a) != getDiferenciaGoles(b)) {
+                return Integer.compare(getDiferenciaGoles(b), getDiferenciaGoles(a));
+            }
+            if (golesFavor[a] != golesFavor[b]) return Integer.compare(golesFavor[b], golesFavor[a]);
+            return Integer.compare(a, b);
+        });
+    }
+
+    // ===== GETTERS =====
+
+    public int getNumEquipos() {
+        return numEquipos;
+    }
+
+    public int getPuntos(int equipo) {
+        return puntos[equipo];
+    }
+
+    public int getGolesFavor(int equipo) {
+        return golesFavor[equipo];
+    }
+
+    public int getGolesContra(int equipo) {
+        return golesContra[equipo];
+    }
+
+    public int getDiferenciaGoles(int equipo) {
+        return golesFavor[equipo] - golesContra[equipo];
+    }
+
+    public int getGanados(int equipo) {
+        return ganados[equipo];
+    }
+
+    public int getEmpatados(int equipo) {
+        return empatados[equipo];
+    }
+
+    public int getPerdidos(int equipo) {
+        return perdidos[equipo];
+    }
+}
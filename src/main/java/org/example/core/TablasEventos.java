@@ -0,0 +1,168 @@
+package org.example.core;
+
+/**
+ * Tablas precalculadas con la probabilidad de éxito de cada evento.
+ * Se construyen una sola vez al cargar la clase a partir de las mismas fórmulas
+ * de Eventos, aprovechando que todas las estadísticas van de 1 a 100.
+ * Así cada resolución es una lectura de arreglo más un número aleatorio.
+ *
+ * Las probabilidades están en [0, 1] y ya incluyen los ajustes de las fórmulas
+ * (el +/- 5% aleatorio del tiro, los topes del penal, etc.), así que la
+ * distribución de resultados es la misma que la del cálculo directo.
+ *
+ * NOTA: Los índices no se validan; las estadísticas deben estar entre 1 y 100.
+ */
+public final class TablasEventos {
+
+    private static final int LADO = 101;              // estadística 0..100
+    private static final int LADO_POTENCIA = 601;     // 5 * tiro + velocidad, 0..600
+    private static final int LADO_SUMA = 201;         // suma de dos estadísticas, 0..200
+    private static final int LADO_DEFENSA_BANDA = 1001; // 7 * defensa + 3 * velocidad, 0..1000
+
+    private static final double PESO_PORTERO = 3.5;
+
+    private static final double[] TIRO_PUERTA = new double[LADO_POTENCIA * LADO];
+    private static final double[] PENAL = new double[LADO * LADO];
+    private static final double[] TIRO_LIBRE_DIRECTO = new double[LADO * LADO];
+    private static final double[] ESQUINA_SIN_CORTE = new double[LADO_SUMA * LADO];
+    private static final double[] ESQUINA_POSICION = new double[LADO * LADO_SUMA];
+    private static final double[] ESQUINA_CABEZAZO = new double[LADO * LADO];
+    private static final double[] SAQUE_BANDA = new double[LADO * LADO_DEFENSA_BANDA];
+    private static final double[] TARJETA_AMARILLA = new double[LADO];
+    private static final double[] LESION = new double[LADO];
+
+    static {
+        construirTablas();
+    }
+
+    private TablasEventos() {
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Probabilidad de gol de un tiro a puerta.
+     * Incluye el ajuste aleatorio de -5 a +4 puntos del cálculo original.
+     */
+    public static double tiroPuerta(int tiro, int velocidad, int reflejos) {
+        return TIRO_PUERTA[(5 * tiro + velocidad) * LADO + reflejos];
+    }
+
+    /**
+     * Igual que tiroPuerta, con la potencia ya combinada como 5 * tiro + velocidad.
+     */
+    public static double tiroPuertaPorPotencia(int potencia5, int reflejos) {
+        return TIRO_PUERTA[potencia5 * LADO + reflejos];
+    }
+
+    public static double penal(int tiro, int reflejos) {
+        return PENAL[tiro * LADO + reflejos];
+    }
+
+    /**
+     * Probabilidad de gol de un tiro libre directo (tiradores con tiro mayor a 85).
+     */
+    public static double tiroLibreDirecto(int tiro, int reflejos) {
+        return TIRO_LIBRE_DIRECTO[tiro * LADO + reflejos];
+    }
+
+    /**
+     * Probabilidad de que el portero NO corte el centro de un tiro de esquina.
+     */
+    public static double esquinaSinCorte(int reflejos, int saque, int pase) {
+        return ESQUINA_SIN_CORTE[(reflejos + saque) * LADO + pase];
+    }
+
+    /**
+     * Probabilidad de que el atacante gane la posición al defensor en un tiro de esquina.
+     */
+    public static double esquinaPosicion(int fisicoAtacante, int fisicoDefensor, int defensaDefensor) {
+        return ESQUINA_POSICION[fisicoAtacante * LADO_SUMA + fisicoDefensor + defensaDefensor];
+    }
+
+    /**
+     * Probabilidad de gol del cabezazo que remata un tiro de esquina.
+     */
+    public static double esquinaCabezazo(int tiro, int reflejos) {
+        return ESQUINA_CABEZAZO[tiro * LADO + reflejos];
+    }
+
+    public static double saqueBanda(int pase, int defensa, int velocidad) {
+        return SAQUE_BANDA[pase * LADO_DEFENSA_BANDA + 7 * defensa + 3 * velocidad];
+    }
+
+    public static double tarjetaAmarilla(int defensa) {
+        return TARJETA_AMARILLA[defensa];
+    }
+
+    public static double lesion(int fisico) {
+        return LESION[fisico];
+    }
+
+    // ===== CONSTRUCCIÓN =====
+
+    private static void construirTablas() {
+        for (int reflejos = 0; reflejos < LADO; reflejos++) {
+            double resistencia = reflejos * PESO_PORTERO;
+
+            for (int potencia5 = 0; potencia5 < LADO_POTENCIA; potencia5++) {
+                // potenciaTiro = tiro + velocidad * 0.2 = (5 * tiro + velocidad) / 5
+                double potencia = potencia5 / 5.0;
+                double base = ratio(potencia, resistencia) * 100;
+
+                // El tiro original suma un entero uniforme de -5 a 4 antes de comparar
+                double suma = 0;
+                for (int ajuste = -5; ajuste < 5; ajuste++) {
+                    suma += acotar((base + ajuste) / 100.0);
+                }
+                TIRO_PUERTA[potencia5 * LADO + reflejos] = suma / 10.0;
+            }
+
+            for (int tiro = 0; tiro < LADO; tiro++) {
+                double penal = ratio(tiro * 4.0, reflejos * 2.0) * 100;
+                if (penal > 90) penal = 90;
+                if (penal < 50) penal = 50;
+                PENAL[tiro * LADO + reflejos] = penal / 100.0;
+
+                TIRO_LIBRE_DIRECTO[tiro * LADO + reflejos] = ratio(tiro + 10, resistencia);
+                ESQUINA_CABEZAZO[tiro * LADO + reflejos] = ratio(tiro * 0.7, resistencia);
+            }
+        }
+
+        for (int salida = 0; salida < LADO_SUMA; salida++) {
+            double capacidadSalida = salida / 2.0;
+            for (int pase = 0; pase < LADO; pase++) {
+                // El portero sale la mitad de las veces y corta con esta probabilidad
+                double probCortar = ratio(capacidadSalida, pase);
+                ESQUINA_SIN_CORTE[salida * LADO + pase] = 1.0 - 0.5 * probCortar;
+            }
+        }
+
+        for (int fisico = 0; fisico < LADO; fisico++) {
+            for (int fuerzaDefensor = 0; fuerzaDefensor < LADO_SUMA; fuerzaDefensor++) {
+                ESQUINA_POSICION[fisico * LADO_SUMA + fuerzaDefensor] = ratio(fisico, fuerzaDefensor);
+            }
+        }
+
+        for (int pase = 0; pase < LADO; pase++) {
+            for (int defensa10 = 0; defensa10 < LADO_DEFENSA_BANDA; defensa10++) {
+                // defensa = defensa * 0.7 + velocidad * 0.3 = (7 * defensa + 3 * velocidad) / 10
+                SAQUE_BANDA[pase * LADO_DEFENSA_BANDA + defensa10] = ratio(pase, defensa10 / 10.0);
+            }
+        }
+
+        for (int stat = 0; stat < LADO; stat++) {
+            TARJETA_AMARILLA[stat] = (100 - stat) / 20.0 / 100.0;
+            LESION[stat] = (100 - stat) / 25.0 / 100.0;
+        }
+    }
+
+    private static double ratio(double a, double b) {
+        double total = a + b;
+        return total == 0 ? 0.0 : a / total;
+    }
+
+    private static double acotar(double probabilidad) {
+        return Math.max(0.0, Math.min(1.0, probabilidad));
+    }
+}
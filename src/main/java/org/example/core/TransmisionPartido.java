@@ -0,0 +1,93 @@
+package org.example.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica los eventos de un partido como un Flow.Publisher, para que la interfaz,
+ * el mercado de apuestas, los registros, etc. se suscriban por separado.
+ *
+ * Cada suscriptor tiene un buffer acotado y recibe los eventos en su propio hilo
+ * del ejecutor, al ritmo que pide con request(n). Si un suscriptor lento llena su
+ * buffer, los eventos nuevos se descartan solo para él (y se cuentan en
+ * getDescartados()): el partido nunca se bloquea esperando ni la memoria crece sin límite.
+ *
+ * Se conecta a un partido con Partido.setTransmision. Al cerrar la transmisión
+ * los suscriptores reciben onComplete.
+ */
+public class TransmisionPartido implements Flow.Publisher<EventoPartido>, AutoCloseable {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 256;
+
+    private final SubmissionPublisher<EventoPartido> publicador;
+    private final LongAdder descartados = new LongAdder();
+
+    /**
+     * Transmisión con el pool común y CAPACIDAD_POR_DEFECTO eventos de buffer por suscriptor.
+     */
+    public TransmisionPartido() {
+        this(ForkJoinPool.commonPool(), CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * @param ejecutor Ejecutor donde se entregan los eventos a los suscriptores
+     * @param capacidad Eventos que puede acumular cada suscriptor (se redondea a potencia de 2)
+     */
+    public TransmisionPartido(Executor ejecutor, int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad del buffer debe ser al menos 1");
+        }
+        this.publicador = new SubmissionPublisher<>(ejecutor, capacidad);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super EventoPartido> suscriptor) {
+        publicador.subscribe(suscriptor);
+    }
+
+    /**
+     * Publica un evento sin bloquear. Los suscriptores con el buffer lleno no lo reciben.
+     * @param codigo Código del evento
+     * @param golesLocal Marcador del local después del evento
+     * @param golesVisitante Marcador del visitante después del evento
+     */
+    public void publicar(int codigo, int golesLocal, int golesVisitante) {
+        if (publicador.isClosed()) {
+            return;
+        }
+        publicador.offer(new EventoPartido(codigo, golesLocal, golesVisitante), (suscriptor, evento) -> {
+            descartados.increment();
+            return false;
+        });
+    }
+
+    // ===== GETTERS =====
+
+    /**
+     * Eventos que no se entregaron a algún suscriptor por tener el buffer lleno
+     * (un evento cuenta una vez por cada suscriptor que lo perdió).
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    public int getNumSuscriptores() {
+        return publicador.getNumberOfSubscribers();
+    }
+
+    public boolean isCerrada() {
+        return publicador.isClosed();
+    }
+
+    /**
+     * Termina la transmisión: los suscriptores reciben onComplete después de los
+     * eventos que tengan pendientes.
+     */
+    @Override
+    public void close() {
+        publicador.close();
+    }
+}
@@ -2,16 +2,20 @@ package org.example.entidades;
 
 import org.example.enums.Posicion;
 import org.example.nombres.JugadoresNombres;
+import org.example.util.Aleatorio;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Representa un equipo de fútbol completo.
  * Un equipo tiene: 1 portero, 10 jugadores titulares, 5 suplentes y una formación.
  * Maneja cambios, expulsiones, goles y tarjetas del equipo.
+ *
+ * Titulares y suplentes se guardan en listas copy-on-write: leerlas o recorrerlas
+ * desde otro hilo (por ejemplo la ventana de jugadores) nunca copia ni falla,
+ * aunque el partido haga un cambio al mismo tiempo.
  */
 public class Equipos {
     private int goles;
@@ -21,11 +25,24 @@ public class Equipos {
     private int tarjetasAmarillas;
     private int tarjetasRojas;
     private Formacion formacion;
-    private final List<Jugador> jugadores = new ArrayList<>(10);
-    private final List<Jugador> reserva = new ArrayList<>();
+    private final List<Jugador> jugadores = new CopyOnWriteArrayList<>();
+    private final List<Jugador> reserva = new CopyOnWriteArrayList<>();
+    private final List<Jugador> vistaJugadores = Collections.unmodifiableList(jugadores);
+    private final List<Jugador> vistaReserva = Collections.unmodifiableList(reserva);
+
+    // Titulares no expulsados. Se actualiza solo con tarjetas, expulsiones y cambios,
+    // así elegir un jugador al azar o contar los disponibles no recorre la plantilla.
+    private final Jugador[] disponibles = new Jugador[MAX_TITULARES];
+    private int numDisponibles = 0;
+
+    // Caché de getPoderOfensivo/getPoderDefensivo, se invalida cuando cambia el once
+    private double poderOfensivo;
+    private double poderDefensivo;
+    private boolean poderValido = false;
 
     private int cambiosRealizados = 0;
     private static final int MAX_CAMBIOS = 5;
+    private static final int MAX_TITULARES = 10;
 
     // ===== CONSTRUCTORES =====
 
@@ -34,8 +51,60 @@ public class Equipos {
      * @param nombre Nombre del equipo
      */
     public Equipos(String nombre) {
+        this(nombre, new Aleatorio());
+    }
+
+    /**
+     * Constructor que crea un equipo completo usando el generador indicado.
+     * Con la misma semilla se obtienen siempre los mismos jugadores y estadísticas.
+     * @param nombre Nombre del equipo
+     * @param random Generador para nombres y estadísticas
+     */
+    public Equipos(String nombre, Aleatorio random) {
         this.nombre = nombre;
-        inicializarEquipo();
+        inicializarEquipo(random);
+    }
+
+    /**
+     * Constructor de copia profunda.
+     * Copia el portero, titulares y suplentes (con su estado actual) para que
+     * la copia pueda jugar un partido sin afectar al equipo original. Con el mismo
+     * generador aleatorio, la copia elige los mismos jugadores que el original.
+     * La formación se comparte porque no se modifica.
+     * @param original Equipo a copiar
+     */
+    public Equipos(Equipos original) {
+        this.nombre = original.nombre;
+        this.goles = original.goles;
+        this.isLocal = original.isLocal;
+        this.tarjetasAmarillas = original.tarjetasAmarillas;
+        this.tarjetasRojas = original.tarjetasRojas;
+        this.formacion = original.formacion;
+        this.cambiosRealizados = original.cambiosRealizados;
+        this.portero = original.portero != null ? new Portero(original.portero) : null;
+
+        Jugador[] titulares = original.jugadores.toArray(new Jugador[0]);
+        Jugador[] copias = new Jugador[titulares.length];
+        for (int i = 0; i < titulares.length; i++) {
+            copias[i] = new Jugador(titulares[i]);
+            copias[i].equipo = this;
+            jugadores.add(copias[i]);
+        }
+
+        // Los disponibles se copian en el mismo orden que el original (quitarDisponible
+        // los desordena), así el mismo número aleatorio elige al mismo jugador en la copia
+        for (int i = 0; i < original.numDisponibles; i++) {
+            for (int j = 0; j < titulares.length; j++) {
+                if (titulares[j] == original.disponibles[i]) {
+                    disponibles[numDisponibles++] = copias[j];
+                    break;
+                }
+            }
+        }
+
+        for (Jugador jugador : original.reserva) {
+            agregarSuplente(new Jugador(jugador));
+        }
     }
 
     // ===== GETTERS =====
@@ -61,12 +130,49 @@ public class Equipos {
     public int getGoles() {
         return goles;
     }
+    /**
+     * Copia de los titulares. Para recorrerlos sin copiar, usar getTitulares().
+     */
     public Jugador[] getJugadores() {
         return jugadores.toArray(new Jugador[0]);
     }
+    /**
+     * Copia de los suplentes. Para recorrerlos sin copiar, usar getSuplentes().
+     */
     public Jugador[] getReserva() {
         return reserva.toArray(new Jugador[0]);
     }
+
+    /**
+     * Vista de solo lectura de los titulares, sin copiar.
+     * Recorrerla es seguro aunque otro hilo haga un cambio: el recorrido ve
+     * la alineación que había al empezar.
+     * @return Lista no modificable de titulares
+     */
+    public List<Jugador> getTitulares() {
+        return vistaJugadores;
+    }
+
+    /**
+     * Vista de solo lectura de los suplentes, sin copiar (mismas garantías que getTitulares()).
+     * @return Lista no modificable de suplentes
+     */
+    public List<Jugador> getSuplentes() {
+        return vistaReserva;
+    }
+
+    public int getNumTitulares() {
+        return jugadores.size();
+    }
+    public Jugador getTitular(int indice) {
+        return jugadores.get(indice);
+    }
+    public int getNumSuplentes() {
+        return reserva.size();
+    }
+    public Jugador getSuplente(int indice) {
+        return reserva.get(indice);
+    }
     public int getCambiosRealizados() {
         return cambiosRealizados;
     }
@@ -82,73 +188,112 @@ public class Equipos {
             throw new IllegalArgumentException("Formación inválida: debe sumar 10 jugadores");
         }
         this.formacion = formacion;
+        invalidarPoder();
     }
 
     public boolean setJugador(Jugador jugador) {
-        if (jugadores.size() >= 10) {
+        if (jugadores.size() >= MAX_TITULARES) {
             return false;
         }
-        this.jugadores.add(jugador);
+        agregarTitular(jugador);
         return true;
     }
 
     public void setNombre(String nombre) {this.nombre = nombre;}
     public void setLocal(boolean isLocal) {this.isLocal = isLocal;}
     public void setGoles(int goles) {this.goles = goles;}
-    public void setReserva(Jugador jugador) {this.reserva.add(jugador);}
-    public void setPortero(Portero portero) {this.portero = portero;}
+    public void setReserva(Jugador jugador) {agregarSuplente(jugador);}
+    public void setPortero(Portero portero) {
+        this.portero = portero;
+        invalidarPoder();
+    }
 
     // ===== MÉTODOS DE EQUIPO =====
+    /**
+     * Poder ofensivo de los titulares no expulsados.
+     * Se guarda en caché y solo se recalcula después de una expulsión, un cambio
+     * o un cambio de formación o portero.
+     */
     public double getPoderOfensivo(){
-        double totalTiro = 0;
-        double totalVelocidad = 0;
-        double totalPase = 0;
-        double poderOfensivo = 0;
-
-        for (Jugador jugador : jugadores) {
-            if (!jugador.isExpulsado()) {
-                totalTiro += jugador.getTiro();
-                totalPase += jugador.getPase();
-                totalVelocidad += jugador.getVelocidad();
-            }
+        if (!poderValido) {
+            calcularPoder();
         }
-
-        poderOfensivo = (totalTiro * 0.65) + (totalPase * 0.25) + (totalVelocidad * 0.1);
         return poderOfensivo;
     }
 
+    /**
+     * Poder defensivo (reflejos del portero y defensa y físico de los titulares no expulsados).
+     * Usa la misma caché que getPoderOfensivo().
+     */
     public double getPoderDefensivo(){
+        if (!poderValido) {
+            calcularPoder();
+        }
+        return poderDefensivo;
+    }
+
+    private void calcularPoder() {
+        double totalTiro = 0;
+        double totalVelocidad = 0;
+        double totalPase = 0;
         double totalReflejos = 0;
         double totalDefensa = 0;
         double totalFisico = 0;
-        double poderDefensivo = 0;
 
-        totalReflejos = portero.getReflejos();
+        if (portero != null) {
+            totalReflejos = portero.getReflejos();
+        }
 
-        for (Jugador jugador : jugadores) {
-            if (!jugador.isExpulsado()) {
-                totalDefensa += jugador.getDefensa();
-                totalFisico += jugador.getFisico();
-            }
+        for (int i = 0; i < numDisponibles; i++) {
+            Jugador jugador = disponibles[i];
+            totalTiro += jugador.getTiro();
+            totalPase += jugador.getPase();
+            totalVelocidad += jugador.getVelocidad();
+            totalDefensa += jugador.getDefensa();
+            totalFisico += jugador.getFisico();
         }
 
+        poderOfensivo = (totalTiro * 0.65) + (totalPase * 0.25) + (totalVelocidad * 0.1);
         poderDefensivo = (totalReflejos * 0.75) + ((totalDefensa + totalFisico) * 0.25);
-        return poderDefensivo;
+        poderValido = true;
     }
 
+    private void invalidarPoder() {
+        poderValido = false;
+    }
 
+    /**
+     * Elige al azar un titular no expulsado. O(1) y sin crear objetos.
+     * @param random Generador del partido
+     * @return Jugador elegido, o null si no queda ninguno disponible
+     */
+    public Jugador getJugadorRandom(Aleatorio random) {
+        if (numDisponibles == 0) {
+            return null;
+        }
+        return disponibles[random.siguienteEntero(numDisponibles)];
+    }
 
-    public Jugador getJugadorRandom() {
-        List<Jugador> disponibles = new ArrayList<>();
+    /**
+     * Busca un jugador del equipo (portero, titular o suplente) por su dorsal.
+     * @param dorsal Dorsal a buscar
+     * @return Jugador con ese dorsal, o null si no existe
+     */
+    public Jugador getJugadorPorDorsal(int dorsal) {
+        if (portero != null && portero.getDorsal() == dorsal) {
+            return portero;
+        }
         for (Jugador jugador : jugadores) {
-            if (!jugador.isExpulsado()) {
-                disponibles.add(jugador);
+            if (jugador.getDorsal() == dorsal) {
+                return jugador;
             }
         }
-        if (disponibles.isEmpty()) {
-            return null;
+        for (Jugador jugador : reserva) {
+            if (jugador.getDorsal() == dorsal) {
+                return jugador;
+            }
         }
-        return disponibles.get((int) (Math.random() * disponibles.size()));
+        return null;
     }
 
     public boolean isPortero() {
@@ -160,12 +305,18 @@ public class Equipos {
      * Inicializa el equipo con portero, 10 titulares, 5 suplentes y formación por defecto.
      * Asigna nombres únicos a todos los jugadores y dorsales.
      */
-    private void inicializarEquipo() {
-        String[] todosLosNombres = JugadoresNombres.getJugadores();
-        List<String> nombresDisponibles = new ArrayList<>(Arrays.asList(todosLosNombres));
-        Collections.shuffle(nombresDisponibles);
+    private void inicializarEquipo(Aleatorio random) {
+        String[] nombresDisponibles = JugadoresNombres.getJugadores();
+
+        // Fisher-Yates con el generador del equipo
+        for (int i = nombresDisponibles.length - 1; i > 0; i--) {
+            int j = random.siguienteEntero(i + 1);
+            String temp = nombresDisponibles[i];
+            nombresDisponibles[i] = nombresDisponibles[j];
+            nombresDisponibles[j] = temp;
+        }
 
-        if (nombresDisponibles.size() < 16) {
+        if (nombresDisponibles.length < 16) {
             throw new IllegalStateException(
                     "No hay suficientes nombres disponibles. Se necesitan al menos 16."
             );
@@ -173,20 +324,20 @@ public class Equipos {
 
         int index = 0;
 
-        Portero nuevoPortero = new Portero(nombresDisponibles.get(index++));
-        nuevoPortero.setRandomStats();
+        Portero nuevoPortero = new Portero(nombresDisponibles[index++]);
+        nuevoPortero.setRandomStats(random);
         this.portero = nuevoPortero;
 
         for (int i = 0; i < 10; i++) {
-            Jugador jugador = new Jugador(nombresDisponibles.get(index++));
-            jugador.setRandomStats();
-            this.jugadores.add(jugador);
+            Jugador jugador = new Jugador(nombresDisponibles[index++]);
+            jugador.setRandomStats(random);
+            agregarTitular(jugador);
         }
 
         for (int i = 0; i < 5; i++) {
-            Jugador jugador = new Jugador(nombresDisponibles.get(index++));
-            jugador.setRandomStats();
-            this.reserva.add(jugador);
+            Jugador jugador = new Jugador(nombresDisponibles[index++]);
+            jugador.setRandomStats(random);
+            agregarSuplente(jugador);
         }
 
         this.formacion = new Formacion(4, 4, 2);
@@ -199,13 +350,52 @@ public class Equipos {
      * @return Cantidad de jugadores disponibles
      */
     public int contarJugadoresDisponibles() {
-        int count = 0;
-        for (Jugador j : jugadores) {
-            if (!j.isExpulsado()) {
-                count++;
+        return numDisponibles;
+    }
+
+    private void agregarTitular(Jugador jugador) {
+        jugador.equipo = this;
+        jugadores.add(jugador);
+        if (!jugador.isExpulsado()) {
+            disponibles[numDisponibles++] = jugador;
+        }
+        invalidarPoder();
+    }
+
+    private void agregarSuplente(Jugador jugador) {
+        jugador.equipo = this;
+        reserva.add(jugador);
+    }
+
+    /**
+     * Pone o quita al jugador de la lista de disponibles según esté expulsado o no.
+     * Lo llama Jugador cuando cambia su expulsión.
+     */
+    void actualizarDisponible(Jugador jugador) {
+        int indice = indiceDisponible(jugador);
+        boolean debeEstar = !jugador.isExpulsado() && jugadores.contains(jugador);
+
+        if (debeEstar && indice < 0) {
+            disponibles[numDisponibles++] = jugador;
+        } else if (!debeEstar && indice >= 0) {
+            quitarDisponible(indice);
+        }
+        invalidarPoder();
+    }
+
+    private int indiceDisponible(Jugador jugador) {
+        for (int i = 0; i < numDisponibles; i++) {
+            if (disponibles[i] == jugador) {
+                return i;
             }
         }
-        return count;
+        return -1;
+    }
+
+    private void quitarDisponible(int indice) {
+        numDisponibles--;
+        disponibles[indice] = disponibles[numDisponibles];
+        disponibles[numDisponibles] = null;
     }
 
 
@@ -273,11 +463,13 @@ public class Equipos {
             return false;
         }
 
-        if (!jugadores.contains(sale)) {
+        int indiceSale = jugadores.indexOf(sale);
+        if (indiceSale < 0) {
             return false;
         }
 
-        if (!reserva.contains(entra)) {
+        int indiceEntra = reserva.indexOf(entra);
+        if (indiceEntra < 0) {
             return false;
         }
 
@@ -285,11 +477,19 @@ public class Equipos {
             return false;
         }
 
-        jugadores.remove(sale);
-        reserva.remove(entra);
-
-        jugadores.add(entra);
-        reserva.add(sale);
+        // Cada jugador ocupa el lugar del otro: cada lista cambia con una sola escritura
+        // y nunca tiene un jugador de más o de menos
+        jugadores.set(indiceSale, entra);
+        reserva.set(indiceEntra, sale);
+
+        // El que entra ocupa el lugar del que sale en la lista de disponibles
+        int indice = indiceDisponible(sale);
+        if (indice >= 0) {
+            disponibles[indice] = entra;
+        } else {
+            disponibles[numDisponibles++] = entra;
+        }
+        invalidarPoder();
 
         entra.setPosicion(sale.getPosicion());
 
@@ -1,6 +1,7 @@
 package org.example.entidades;
 
 import org.example.enums.Posicion;
+import org.example.util.Aleatorio;
 
 /**
  * Representa un jugador de fútbol con sus estadísticas y estado durante el partido.
@@ -23,6 +24,10 @@ public class Jugador {
     private int goles;
     private boolean expulsado;
 
+    // Equipo al que pertenece (lo asigna Equipos). Se le avisa cuando cambia la expulsión
+    // para que mantenga al día su lista de jugadores disponibles.
+    Equipos equipo;
+
 
     // Las estadísticas deben asignarse despues con setRandomStats() o los setters.
     public Jugador(String nombre) {
@@ -32,6 +37,27 @@ public class Jugador {
         this.expulsado = false;
     }
 
+    /**
+     * Constructor de copia. Copia estadísticas y estado del partido (tarjetas, lesiones, goles).
+     * Se usa para simular partidos en paralelo sin compartir jugadores entre hilos.
+     * @param original Jugador a copiar
+     */
+    public Jugador(Jugador original) {
+        this.nombre = original.nombre;
+        this.posicion = original.posicion;
+        this.velocidad = original.velocidad;
+        this.tiro = original.tiro;
+        this.pase = original.pase;
+        this.defensa = original.defensa;
+        this.fisico = original.fisico;
+        this.dorsal = original.dorsal;
+        this.lesiones = original.lesiones;
+        this.tarjetasAmarillas = original.tarjetasAmarillas;
+        this.tarjetasRojas = original.tarjetasRojas;
+        this.goles = original.goles;
+        this.expulsado = original.expulsado;
+    }
+
     // ===== SETTERS =====
 
     protected void setVelocidad(int velocidad) {
@@ -64,7 +90,11 @@ public class Jugador {
         this.goles = goles;
     }
     public void setExpulsado(boolean expulsado) {
+        boolean cambio = this.expulsado != expulsado;
         this.expulsado = expulsado;
+        if (cambio && equipo != null) {
+            equipo.actualizarDisponible(this);
+        }
     }
 
     // ===== GETTERS =====
@@ -120,7 +150,7 @@ public class Jugador {
 
         if (this.tarjetasAmarillas >= 2) {
             this.tarjetasRojas++;
-            this.expulsado = true;
+            setExpulsado(true);
             return true;
         }
 
@@ -130,7 +160,7 @@ public class Jugador {
     // Agrega una tarjeta roja directa al jugador y lo expulsa del partido.
     public void agregarTarjetaRoja() {
         this.tarjetasRojas++;
-        this.expulsado = true;
+        setExpulsado(true);
     }
 
     // Incrementa el contador de goles del jugador en 1
@@ -141,12 +171,12 @@ public class Jugador {
     // ===== MÉTODOS DE ESTADÍSTICAS =====
 
     //Asigna valores aleatorios (1-100) a todas las estadísticas del jugador
-    public void setRandomStats() {
-        setVelocidad(1 + (int)(Math.random() * 100));
-        setTiro(1 + (int)(Math.random() * 100));
-        setPase(1 + (int)(Math.random() * 100));
-        setDefensa(1 + (int)(Math.random() * 100));
-        setFisico(1 + (int)(Math.random() * 100));
+    public void setRandomStats(Aleatorio random) {
+        setVelocidad(1 + random.siguienteEntero(100));
+        setTiro(1 + random.siguienteEntero(100));
+        setPase(1 + random.siguienteEntero(100));
+        setDefensa(1 + random.siguienteEntero(100));
+        setFisico(1 + random.siguienteEntero(100));
     }
 
 
@@ -1,6 +1,7 @@
 package org.example.entidades;
 
 import org.example.enums.Posicion;
+import org.example.util.Aleatorio;
 
 /**
  * Representa un portero con estadísticas adicionales específicas de su posición.
@@ -22,6 +23,16 @@ public class Portero extends Jugador {
         setPosicion(Posicion.PORTERIA);
     }
 
+    /**
+     * Constructor de copia. Copia también saque y reflejos.
+     * @param original Portero a copiar
+     */
+    public Portero(Portero original) {
+        super(original);
+        this.saque = original.saque;
+        this.reflejos = original.reflejos;
+    }
+
     /**
      * Obtiene la capacidad de saque del portero.
      * @return Saque (1-100)
@@ -43,10 +54,10 @@ public class Portero extends Jugador {
      * Incluye las 5 estadísticas base más saque y reflejos.
      */
     @Override
-    public void setRandomStats() {
-        super.setRandomStats();
-        saque    = 1 + (int)(Math.random() * 100);
-        reflejos = 1 + (int)(Math.random() * 100);
+    public void setRandomStats(Aleatorio random) {
+        super.setRandomStats(random);
+        saque    = 1 + random.siguienteEntero(100);
+        reflejos = 1 + random.siguienteEntero(100);
     }
 
     /**
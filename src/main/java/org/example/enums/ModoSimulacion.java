@@ -0,0 +1,12 @@
+package org.example.enums;
+
+/**
+ * Forma de avanzar un partido simulado.
+ * POR_MINUTO sortea cada minuto (como la ventana del simulador).
+ * POR_EVENTO salta directamente al siguiente minuto con evento; da la misma
+ * distribución de resultados con muchos menos números aleatorios.
+ */
+public enum ModoSimulacion {
+    POR_MINUTO,
+    POR_EVENTO
+}
@@ -0,0 +1,32 @@
+package org.example.enums;
+
+/**
+ * Tipos de evento que puede producir un minuto de partido.
+ * El ordinal se guarda en los códigos de evento (ver CodigoEvento), así que
+ * solo se deben agregar valores al final y nunca pasar de 16.
+ */
+public enum TipoEvento {
+    NINGUNO,
+    SIN_JUGADORES,
+    TIRO_PUERTA,
+    PENAL,
+    TIRO_LIBRE,
+    TIRO_ESQUINA,
+    SAQUE_BANDA,
+    TARJETA_AMARILLA,
+    TARJETA_ROJA,
+    FUERA_DE_JUEGO,
+    LESION;
+
+    // values() crea un arreglo nuevo en cada llamada; este se reutiliza
+    private static final TipoEvento[] VALORES = values();
+
+    /**
+     * Obtiene el tipo a partir de su ordinal sin crear objetos.
+     * @param ordinal Ordinal del tipo
+     * @return Tipo de evento correspondiente
+     */
+    public static TipoEvento desdeOrdinal(int ordinal) {
+        return VALORES[ordinal];
+    }
+}
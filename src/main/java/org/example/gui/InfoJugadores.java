@@ -5,6 +5,7 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.List;
 
 public class InfoJugadores extends JFrame {
 
@@ -57,7 +58,7 @@ public class InfoJugadores extends JFrame {
         lblTitularesLocal.setAlignmentX(Component.CENTER_ALIGNMENT);
         panelLocal.add(lblTitularesLocal);
 
-        tablaLocal = crearTabla(local.getJugadores());
+        tablaLocal = crearTabla(local.getTitulares());
         panelLocal.add(new JScrollPane(tablaLocal));
         panelLocal.add(Box.createVerticalStrut(20));
 
@@ -66,7 +67,7 @@ public class InfoJugadores extends JFrame {
         lblSuplentesLocal.setAlignmentX(Component.CENTER_ALIGNMENT);
         panelLocal.add(lblSuplentesLocal);
 
-        tablaSuplentesLocal = crearTablaSuplentes(local.getReserva());
+        tablaSuplentesLocal = crearTablaSuplentes(local.getSuplentes());
         panelLocal.add(new JScrollPane(tablaSuplentesLocal));
 
         // Panel equipo visitante
@@ -95,7 +96,7 @@ public class InfoJugadores extends JFrame {
         lblTitularesVisitante.setAlignmentX(Component.CENTER_ALIGNMENT);
         panelVisitante.add(lblTitularesVisitante);
 
-        tablaVisitante = crearTabla(visitante.getJugadores());
+        tablaVisitante = crearTabla(visitante.getTitulares());
         panelVisitante.add(new JScrollPane(tablaVisitante));
         panelVisitante.add(Box.createVerticalStrut(20));
 
@@ -104,7 +105,7 @@ public class InfoJugadores extends JFrame {
         lblSuplentesVisitante.setAlignmentX(Component.CENTER_ALIGNMENT);
         panelVisitante.add(lblSuplentesVisitante);
 
-        tablaSuplentesVisitante = crearTablaSuplentes(visitante.getReserva());
+        tablaSuplentesVisitante = crearTablaSuplentes(visitante.getSuplentes());
         panelVisitante.add(new JScrollPane(tablaSuplentesVisitante));
 
         panelPrincipal.add(panelLocal);
@@ -118,7 +119,7 @@ public class InfoJugadores extends JFrame {
         add(panelBoton, BorderLayout.SOUTH);
     }
 
-    private JTable crearTabla(Jugador[] jugadores) {
+    private JTable crearTabla(List<Jugador> jugadores) {
         String[] columnas = {"Nombre", "Vel", "Tiro", "Pase", "Def", "Fis", "Dorsal", "Pos", "Goles", "TA", "TR"};
         DefaultTableModel modelo = new DefaultTableModel(columnas, 0);
 
@@ -151,7 +152,7 @@ public class InfoJugadores extends JFrame {
         return tabla;
     }
 
-    private JTable crearTablaSuplentes(Jugador[] suplentes) {
+    private JTable crearTablaSuplentes(List<Jugador> suplentes) {
         String[] columnas = {"Nombre", "Dorsal", "Goles", "TA", "TR"};
         DefaultTableModel modelo = new DefaultTableModel(columnas, 0);
 
@@ -179,36 +180,41 @@ public class InfoJugadores extends JFrame {
     }
 
     public void actualizarTablas() {
+        // Se recorren las vistas de Equipos: no se copian las listas en cada refresco
         DefaultTableModel modeloLocal = (DefaultTableModel) tablaLocal.getModel();
-        Jugador[] jugadoresLocal = equipoLocal.getJugadores();
-        for (int i = 0; i < jugadoresLocal.length; i++) {
-            modeloLocal.setValueAt(jugadoresLocal[i].getGoles(), i, 8);
-            modeloLocal.setValueAt(jugadoresLocal[i].getTarjetasAmarillas(), i, 9);
-            modeloLocal.setValueAt(jugadoresLocal[i].getTarjetasRojas(), i, 10);
+        int i = 0;
+        for (Jugador j : equipoLocal.getTitulares()) {
+            modeloLocal.setValueAt(j.getGoles(), i, 8);
+            modeloLocal.setValueAt(j.getTarjetasAmarillas(), i, 9);
+            modeloLocal.setValueAt(j.getTarjetasRojas(), i, 10);
+            i++;
         }
 
         DefaultTableModel modeloVisitante = (DefaultTableModel) tablaVisitante.getModel();
-        Jugador[] jugadoresVisitante = equipoVisitante.getJugadores();
-        for (int i = 0; i < jugadoresVisitante.length; i++) {
-            modeloVisitante.setValueAt(jugadoresVisitante[i].getGoles(), i, 8);
-            modeloVisitante.setValueAt(jugadoresVisitante[i].getTarjetasAmarillas(), i, 9);
-            modeloVisitante.setValueAt(jugadoresVisitante[i].getTarjetasRojas(), i, 10);
+        i = 0;
+        for (Jugador j : equipoVisitante.getTitulares()) {
+            modeloVisitante.setValueAt(j.getGoles(), i, 8);
+            modeloVisitante.setValueAt(j.getTarjetasAmarillas(), i, 9);
+            modeloVisitante.setValueAt(j.getTarjetasRojas(), i, 10);
+            i++;
         }
 
         DefaultTableModel modeloSuplentesLocal = (DefaultTableModel) tablaSuplentesLocal.getModel();
-        Jugador[] suplentesLocal = equipoLocal.getReserva();
-        for (int i = 0; i < suplentesLocal.length; i++) {
-            modeloSuplentesLocal.setValueAt(suplentesLocal[i].getGoles(), i, 2);
-            modeloSuplentesLocal.setValueAt(suplentesLocal[i].getTarjetasAmarillas(), i, 3);
-            modeloSuplentesLocal.setValueAt(suplentesLocal[i].getTarjetasRojas(), i, 4);
+        i = 0;
+        for (Jugador j : equipoLocal.getSuplentes()) {
+            modeloSuplentesLocal.setValueAt(j.getGoles(), i, 2);
+            modeloSuplentesLocal.setValueAt(j.getTarjetasAmarillas(), i, 3);
+            modeloSuplentesLocal.setValueAt(j.getTarjetasRojas(), i, 4);
+            i++;
         }
 
         DefaultTableModel modeloSuplentesVisitante = (DefaultTableModel) tablaSuplentesVisitante.getModel();
-        Jugador[] suplentesVisitante = equipoVisitante.getReserva();
-        for (int i = 0; i < suplentesVisitante.length; i++) {
-            modeloSuplentesVisitante.setValueAt(suplentesVisitante[i].getGoles(), i, 2);
-            modeloSuplentesVisitante.setValueAt(suplentesVisitante[i].getTarjetasAmarillas(), i, 3);
-            modeloSuplentesVisitante.setValueAt(suplentesVisitante[i].getTarjetasRojas(), i, 4);
+        i = 0;
+        for (Jugador j : equipoVisitante.getSuplentes()) {
+            modeloSuplentesVisitante.setValueAt(j.getGoles(), i, 2);
+            modeloSuplentesVisitante.setValueAt(j.getTarjetasAmarillas(), i, 3);
+            modeloSuplentesVisitante.setValueAt(j.getTarjetasRojas(), i, 4);
+            i++;
         }
 
         lblStatsPoderLocal.setText(formatPoder(equipoLocal));
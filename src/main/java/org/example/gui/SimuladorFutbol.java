@@ -1,9 +1,14 @@
 package org.example.gui;
 
+import org.example.core.NarradorPartido;
 import org.example.core.Partido;
+import org.example.core.ReproductorPartido;
+import org.example.core.SuscriptorEventos;
+import org.example.core.TransmisionPartido;
 import org.example.entidades.Equipos;
 import org.example.entidades.Formacion;
 import org.example.nombres.EquiposNombres;
+import org.example.util.Aleatorio;
 import org.example.util.GestorMercado;
 import org.example.util.Visual;
 
@@ -16,6 +21,10 @@ import java.util.Random;
  */
 public class SimuladorFutbol extends JFrame {
 
+    // Generadores de los equipos: semillas derivadas de la del partido
+    static final int INDICE_LOCAL = 0;
+    static final int INDICE_VISITANTE = 1;
+
     // Componentes de UI
     private JTextArea areaTexto;
     private JButton botonIniciar;
@@ -38,6 +47,8 @@ public class SimuladorFutbol extends JFrame {
     private Equipos equipoLocal;
     private Equipos equipoVisitante;
     private Partido partido;
+    private ReproductorPartido reproductor; // Para auditar apuestas rejugando el partido
+    private TransmisionPartido transmision; // Eventos del partido para otros suscriptores
     private GestorMercado mercado; // Nuestro "Corredor de Apuestas"
     private InfoJugadores ventanaEquipos = null;
     private Timer timer;
@@ -251,23 +262,34 @@ public class SimuladorFutbol extends JFrame {
      * Inicializa la lógica del partido, equipos y el timer.
      */
     private void iniciarPartido() {
-        // 1. Configurar Equipos
-        equipoLocal = new Equipos((String) comboLocal.getSelectedItem());
-        equipoVisitante = new Equipos((String) comboVisitante.getSelectedItem());
-
-        equipoLocal.setFormacion(parsearFormacion((String) comboFormacionLocal.getSelectedItem()));
-        equipoVisitante.setFormacion(parsearFormacion((String) comboFormacionVisitante.getSelectedItem()));
-
-        equipoLocal.asignarPosiciones();
-        equipoVisitante.asignarPosiciones();
+        // 1. Configurar Equipos (con la semilla del partido, para poder repetirlo)
+        long semilla = random.nextLong();
+        equipoLocal = crearEquipo((String) comboLocal.getSelectedItem(),
+                (String) comboFormacionLocal.getSelectedItem(), semilla, INDICE_LOCAL);
+        equipoVisitante = crearEquipo((String) comboVisitante.getSelectedItem(),
+                (String) comboFormacionVisitante.getSelectedItem(), semilla, INDICE_VISITANTE);
 
         // 2. Iniciar Motores (Partido y Mercado)
-        partido = new Partido(equipoLocal, equipoVisitante);
+        reproductor = new ReproductorPartido(equipoLocal, equipoVisitante, semilla);
+        partido = new Partido(equipoLocal, equipoVisitante, semilla);
+
+        // La consola se suscribe a la transmisión en lugar de imprimir desde el Timer
+        Equipos local = equipoLocal;
+        Equipos visitante = equipoVisitante;
+        transmision = new TransmisionPartido();
+        transmision.subscribe(new SuscriptorEventos(
+                evento -> System.out.println(NarradorPartido.narrar(evento.getCodigo(), local, visitante)),
+                error -> System.err.println("Error en la transmisión del partido: " + error),
+                () -> { }, SuscriptorEventos.LOTE_POR_DEFECTO));
+        partido.setTransmision(transmision);
         mercado = new GestorMercado();
+        mercado.prepararTabla(equipoLocal, equipoVisitante);
 
         // 3. Resetear UI
         areaTexto.setText("=== INICIO DEL PARTIDO ===\n");
-        areaTexto.append(equipoLocal.getNombre() + " vs " + equipoVisitante.getNombre() + "\n\n");
+        areaTexto.append(equipoLocal.getNombre() + " vs " + equipoVisitante.getNombre() + "\n");
+        areaTexto.append("Semilla del partido: " + semilla + "\n");
+        areaTexto.append("(con los mismos equipos y formaciones, la semilla repite el partido)\n\n");
         minuto = 0;
         golesLocal = 0;
         golesVisitante = 0;
@@ -290,7 +312,6 @@ public class SimuladorFutbol extends JFrame {
 
         // A. Procesar evento de fútbol
         String evento = partido.procesarMinuto(minuto, equipoLocal, equipoVisitante);
-        System.out.println(evento);
         areaTexto.append(evento + "\n");
 
         // Actualizar marcadores locales (por si hubo gol)
@@ -332,8 +353,27 @@ public class SimuladorFutbol extends JFrame {
         }
     }
 
+    /**
+     * Reproductor del partido actual: reconstruye el estado en cualquier minuto
+     * a partir de la semilla, por ejemplo para revisar una apuesta.
+     * @return Reproductor, o null si todavía no se inició ningún partido
+     */
+    public ReproductorPartido getReproductor() {
+        return reproductor;
+    }
+
+    /**
+     * Transmisión de eventos del partido actual, para suscribir otros consumidores
+     * (mercado, liquidación de apuestas, registros).
+     * @return Transmisión, o null si todavía no se inició ningún partido
+     */
+    public TransmisionPartido getTransmision() {
+        return transmision;
+    }
+
     private void finalizarPartido() {
         timer.stop();
+        transmision.close();
         areaTexto.append("\n=== FINAL DEL PARTIDO ===\n");
         areaTexto.append("Marcador Final: " + equipoLocal.getNombre() + " " + golesLocal + " - " + golesVisitante + " " + equipoVisitante.getNombre() + "\n");
 
@@ -370,7 +410,20 @@ public class SimuladorFutbol extends JFrame {
         }
     }
 
-    private Formacion parsearFormacion(String formacionStr) {
+    /**
+     * Arma un equipo del partido con un generador derivado de la semilla del partido:
+     * con la semilla impresa y los mismos equipos y formaciones, el partido se repite
+     * igual en otra ejecución del programa.
+     * @param indice INDICE_LOCAL o INDICE_VISITANTE
+     */
+    static Equipos crearEquipo(String nombre, String formacion, long semilla, int indice) {
+        Equipos equipo = new Equipos(nombre, new Aleatorio(Aleatorio.semillaDerivada(semilla, indice)));
+        equipo.setFormacion(parsearFormacion(formacion));
+        equipo.asignarPosiciones();
+        return equipo;
+    }
+
+    private static Formacion parsearFormacion(String formacionStr) {
         String[] partes = formacionStr.split("-");
         return new Formacion(Integer.parseInt(partes[0]), Integer.parseInt(partes[1]), Integer.parseInt(partes[2]));
     }
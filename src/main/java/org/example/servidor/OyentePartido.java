@@ -0,0 +1,22 @@
+package org.example.servidor;
+
+/**
+ * Recibe los minutos jugados de todos los partidos de un ServidorPartidos.
+ * Los métodos se llaman desde los hilos trabajadores del servidor, así que deben
+ * ser rápidos y seguros entre hilos (por ejemplo, encolar y volver).
+ */
+public interface OyentePartido {
+
+    /**
+     * Se jugó un minuto de un partido.
+     * @param partido Partido (su estado ya incluye este minuto)
+     * @param codigo Código del evento del minuto (ver CodigoEvento)
+     */
+    void minutoJugado(PartidoEnVivo partido, int codigo);
+
+    /**
+     * El partido terminó y deja de estar en el servidor.
+     */
+    default void partidoTerminado(PartidoEnVivo partido) {
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.servidor;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.InstantaneaPartido;
+import org.example.core.Partido;
+import org.example.entidades.Equipos;
+import org.example.util.GestorMercado;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Un partido alojado en ServidorPartidos. Lo juega un hilo trabajador a la vez,
+ * un minuto por turno; cualquier otro hilo puede leer el marcador y las cuotas
+ * con getEstado(), que devuelve una foto inmutable del último minuto jugado.
+ */
+public class PartidoEnVivo {
+
+    // Igual que la ventana del simulador: después del minuto 85 no se aceptan apuestas
+    public static final int CIERRE_MERCADO = 85;
+
+    private final int id;
+    private final Partido partido;
+    private final GestorMercado mercado = new GestorMercado();
+    private final AtomicBoolean jugando = new AtomicBoolean();
+    private volatile Estado estado;
+
+    PartidoEnVivo(int id, Equipos local, Equipos visitante, long semilla) {
+        this.id = id;
+        this.partido = new Partido(local, visitante, semilla);
+        mercado.prepararTabla(local, visitante);
+        this.estado = new Estado(-1, 0, 0, mercado.getCuotaLocal(), mercado.getCuotaEmpate(),
+                mercado.getCuotaVisitante(), false);
+    }
+
+    /**
+     * Juega el siguiente minuto y actualiza marcador y cuotas.
+     * @return Código del evento, o -1 si el partido ya terminó o lo está jugando otro hilo
+     */
+    int jugarMinuto() {
+        if (estado.terminado || !jugando.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            int minuto = partido.getMinutoSiguiente();
+            int codigo = partido.simularMinuto(minuto);
+
+            Equipos local = partido.getEquipoLocal();
+            Equipos visitante = partido.getEquipoVisitante();
+            mercado.actualizarCuotas(minuto, local.getGoles(), visitante.getGoles(), local, visitante);
+
+            estado = new Estado(minuto, local.getGoles(), visitante.getGoles(), mercado.getCuotaLocal(),
+                    mercado.getCuotaEmpate(), mercado.getCuotaVisitante(), minuto >= EjecutorPartido.MINUTOS);
+            return codigo;
+        } finally {
+            jugando.set(false);
+        }
+    }
+
+    /**
+     * Foto del partido para simular cómo puede terminar. Se copia con el partido tomado,
+     * igual que al jugar un minuto, así la copia nunca ve un minuto a medias. Si el
+     * trabajador llega mientras tanto, ese minuto se juega en la vuelta siguiente
+     * (cuenta como omitido). Se puede llamar desde cualquier hilo.
+     */
+    public InstantaneaPartido tomarInstantanea() {
+        while (!jugando.compareAndSet(false, true)) {
+            // Se está jugando un minuto: dura microsegundos
+            Thread.yield();
+        }
+        try {
+            return new InstantaneaPartido(partido);
+        } finally {
+            jugando.set(false);
+        }
+    }
+
+    // ===== GETTERS =====
+
+    public int getId() {
+        return id;
+    }
+
+    public String getNombreLocal() {
+        return partido.getEquipoLocal().getNombre();
+    }
+
+    public String getNombreVisitante() {
+        return partido.getEquipoVisitante().getNombre();
+    }
+
+    /**
+     * Foto del último minuto jugado. Se puede leer desde cualquier hilo.
+     */
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public boolean isTerminado() {
+        return estado.terminado;
+    }
+
+    /**
+     * Marcador, minuto y cuotas de un momento del partido (inmutable).
+     */
+    public static final class Estado {
+        private final int minuto;
+        private final int golesLocal;
+        private final int golesVisitante;
+        private final String cuotaLocal;
+        private final String cuotaEmpate;
+        private final String cuotaVisitante;
+        private final boolean terminado;
+
+        Estado(int minuto, int golesLocal, int golesVisitante, String cuotaLocal, String cuotaEmpate,
+               String cuotaVisitante, boolean terminado) {
+            this.minuto = minuto;
+            this.golesLocal = golesLocal;
+            this.golesVisitante = golesVisitante;
+            this.cuotaLocal = cuotaLocal;
+            this.cuotaEmpate = cuotaEmpate;
+            this.cuotaVisitante = cuotaVisitante;
+            this.terminado = terminado;
+        }
+
+        /**
+         * @return Último minuto jugado (-1 antes del saque inicial)
+         */
+        public int getMinuto() {
+            return minuto;
+        }
+        public int getGolesLocal() {
+            return golesLocal;
+        }
+        public int getGolesVisitante() {
+            return golesVisitante;
+        }
+        public String getCuotaLocal() {
+            return cuotaLocal;
+        }
+        public String getCuotaEmpate() {
+            return cuotaEmpate;
+        }
+        public String getCuotaVisitante() {
+            return cuotaVisitante;
+        }
+        public boolean isMercadoAbierto() {
+            return minuto <= CIERRE_MERCADO;
+        }
+        public boolean isTerminado() {
+            return terminado;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.servidor;
+
+import org.example.entidades.Equipos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aloja muchos partidos "en vivo" a la vez, cada uno a ritmo real (un minuto de juego
+ * cada msPorMinuto milisegundos), sin un Timer ni un hilo por partido.
+ *
+ * Se usa una rueda de ticks: un solo hilo programado avanza cada msPorMinuto dividido
+ * por el número de ranuras (MS_POR_TICK si msPorMinuto es múltiplo de él; si no, un
+ * poco más) y en cada tick atiende una ranura de la rueda. Un partido vive en una ranura fija, así
+ * que se le vuelve a atender justo una vuelta después (msPorMinuto). Los partidos de
+ * la ranura se reparten en lotes de PARTIDOS_POR_LOTE entre los hilos trabajadores;
+ * el hilo de la rueda nunca juega minutos, así no se atrasa aunque una ranura pese.
+ *
+ * Los nuevos partidos entran a la ranura con menos partidos, para que la carga de
+ * cada tick sea pareja. El estado de cada partido (marcador y cuotas) se lee con
+ * PartidoEnVivo.getEstado() desde cualquier hilo.
+ *
+ * Si un oyente lanza una excepción, se cuenta (getErroresOyentes) y se sigue con los
+ * demás oyentes y partidos, así un oyente con fallas no frena el lote ni deja partidos
+ * terminados sin quitar. Si los trabajadores rechazan un lote, también se cuenta
+ * (getLotesRechazados) y sus partidos se juegan en la vuelta siguiente: la rueda no
+ * se detiene.
+ */
+public class ServidorPartidos implements AutoCloseable {
+
+    public static final long MS_POR_TICK = 10;
+    public static final int PARTIDOS_POR_LOTE = 64;
+
+    private final long msPorMinuto;
+    private final long nanosPorTick;
+    private final Executor trabajadores;
+    private final ScheduledExecutorService rueda;
+
+    // Solo el hilo de la rueda toca las ranuras; los demás dejan partidos en "nuevos"
+    private final List<List<PartidoEnVivo>> ranuras;
+    private final ConcurrentLinkedQueue<PartidoEnVivo> nuevos = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, PartidoEnVivo> partidos = new ConcurrentHashMap<>();
+    private final List<OyentePartido> oyentes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger siguienteId = new AtomicInteger();
+
+    // Métricas: las escribe solo el hilo de la rueda
+    private long tick;
+    private long tickAnteriorNanos;
+    private volatile long ticks;
+    private volatile long variacionMaximaNanos;
+    private volatile long variacionTotalNanos;
+    private final LongAdder minutosJugados = new LongAdder();
+    private final LongAdder minutosOmitidos = new LongAdder();
+    private final LongAdder erroresOyentes = new LongAdder();
+    private final LongAdder lotesRechazados = new LongAdder();
+    private volatile RuntimeException ultimoErrorOyente;
+
+    /**
+     * Servidor con el pool común de fork/join como trabajadores.
+     * @param msPorMinuto Milisegundos reales por minuto de juego (al menos MS_POR_TICK)
+     */
+    public ServidorPartidos(long msPorMinuto) {
+        this(msPorMinuto, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param msPorMinuto Milisegundos reales por minuto de juego (al menos MS_POR_TICK)
+     * @param trabajadores Hilos que juegan los minutos
+     * @throws IllegalArgumentException si msPorMinuto es menor que MS_POR_TICK
+     */
+    public ServidorPartidos(long msPorMinuto, Executor trabajadores) {
+        if (msPorMinuto < MS_POR_TICK) {
+            throw new IllegalArgumentException("Un minuto debe durar al menos " + MS_POR_TICK + " ms");
+        }
+        int numRanuras = (int) (msPorMinuto / MS_POR_TICK);
+        this.msPorMinuto = msPorMinuto;
+        this.nanosPorTick = TimeUnit.MILLISECONDS.toNanos(msPorMinuto) / numRanuras;
+        this.trabajadores = trabajadores;
+
+        this.ranuras = new ArrayList<>(numRanuras);
+        for (int i = 0; i < numRanuras; i++) {
+            ranuras.add(new ArrayList<>());
+        }
+
+        ScheduledThreadPoolExecutor ejecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread hilo = new Thread(r, "rueda-partidos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        ejecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.rueda = ejecutor;
+        rueda.scheduleAtFixedRate(this::avanzarTick, nanosPorTick, nanosPorTick, TimeUnit.NANOSECONDS);
+    }
+
+    // ===== PARTIDOS =====
+
+    /**
+     * Agrega un partido con semilla aleatoria. Su primer minuto se juega en la próxima
+     * vuelta de su ranura.
+     * @param local Equipo local (el servidor lo modifica al jugar; no compartir)
+     * @param visitante Equipo visitante (el servidor lo modifica al jugar; no compartir)
+     * @return Partido en vivo
+     */
+    public PartidoEnVivo iniciarPartido(Equipos local, Equipos visitante) {
+        return iniciarPartido(local, visitante, ThreadLocalRandom.current().nextLong());
+    }
+
+    public PartidoEnVivo iniciarPartido(Equipos local, Equipos visitante, long semilla) {
+        if (rueda.isShutdown()) {
+            throw new IllegalStateException("El servidor ya está cerrado");
+        }
+        PartidoEnVivo partido = new PartidoEnVivo(siguienteId.getAndIncrement(), local, visitante, semilla);
+        partidos.put(partido.getId(), partido);
+        nuevos.add(partido);
+        return partido;
+    }
+
+    /**
+     * @return El partido con ese id, o null si no existe o ya terminó
+     */
+    public PartidoEnVivo getPartido(int id) {
+        return partidos.get(id);
+    }
+
+    /**
+     * Vista de solo lectura de los partidos en curso.
+     */
+    public Collection<PartidoEnVivo> getPartidos() {
+        return Collections.unmodifiableCollection(partidos.values());
+    }
+
+    public int getNumPartidos() {
+        return partidos.size();
+    }
+
+    public void agregarOyente(OyentePartido oyente) {
+        oyentes.add(oyente);
+    }
+
+    public void quitarOyente(OyentePartido oyente) {
+        oyentes.remove(oyente);
+    }
+
+    // ===== RUEDA =====
+
+    private void avanzarTick() {
+        // Variación (jitter): cuánto se aparta el intervalo entre ticks del programado
+        long ahora = System.nanoTime();
+        if (tick > 0) {
+            long variacion = Math.abs(ahora - tickAnteriorNanos - nanosPorTick);
+            if (variacion > variacionMaximaNanos) {
+                variacionMaximaNanos = variacion;
+            }
+            variacionTotalNanos += variacion;
+        }
+        tickAnteriorNanos = ahora;
+
+        PartidoEnVivo nuevo;
+        while ((nuevo = nuevos.poll()) != null) {
+            ranuraMasLiviana().add(nuevo);
+        }
+
+        List<PartidoEnVivo> ranura = ranuras.get((int) (tick % ranuras.size()));
+        ranura.removeIf(PartidoEnVivo::isTerminado);
+
+        // Copia para los trabajadores: la ranura puede cambiar en la próxima vuelta
+        int n = ranura.size();
+        if (n > 0) {
+            PartidoEnVivo[] lote = ranura.toArray(new PartidoEnVivo[n]);
+            for (int desde = 0; desde < n; desde += PARTIDOS_POR_LOTE) {
+                int inicio = desde;
+                int fin = Math.min(n, desde + PARTIDOS_POR_LOTE);
+                try {
+                    trabajadores.execute(() -> jugarLote(lote, inicio, fin));
+                } catch (RejectedExecutionException e) {
+                    // Una excepción aquí cancelaría la rueda para siempre
+                    lotesRechazados.increment();
+                }
+            }
+        }
+
+        tick++;
+        ticks = tick;
+    }
+
+    private List<PartidoEnVivo> ranuraMasLiviana() {
+        List<PartidoEnVivo> mejor = ranuras.get(0);
+        for (List<PartidoEnVivo> ranura : ranuras) {
+            if (ranura.size() < mejor.size()) {
+                mejor = ranura;
+            }
+        }
+        return mejor;
+    }
+
+    private void jugarLote(PartidoEnVivo[] lote, int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            PartidoEnVivo partido = lote[i];
+            int codigo = partido.jugarMinuto();
+            if (codigo < 0) {
+                // El minuto anterior no había terminado: se juega en la próxima vuelta
+                if (!partido.isTerminado()) {
+                    minutosOmitidos.increment();
+                }
+                continue;
+            }
+            minutosJugados.increment();
+            for (OyentePartido oyente : oyentes) {
+                try {
+                    oyente.minutoJugado(partido, codigo);
+                } catch (RuntimeException e) {
+                    registrarErrorOyente(e);
+                }
+            }
+            if (partido.isTerminado()) {
+                partidos.remove(partido.getId());
+                for (OyentePartido oyente : oyentes) {
+                    try {
+                        oyente.partidoTerminado(partido);
+                    } catch (RuntimeException e) {
+                        registrarErrorOyente(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void registrarErrorOyente(RuntimeException e) {
+        erroresOyentes.increment();
+        ultimoErrorOyente = e;
+    }
+
+    // ===== MÉTRICAS =====
+
+    public long getMsPorMinuto() {
+        return msPorMinuto;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Mayor diferencia entre el intervalo real de dos ticks seguidos y el programado
+     * (msPorMinuto dividido por el número de ranuras), en milisegundos.
+     */
+    public double getVariacionMaximaMs() {
+        return variacionMaximaNanos / 1e6;
+    }
+
+    /**
+     * Diferencia promedio entre el intervalo real de dos ticks seguidos y el programado
+     * (msPorMinuto dividido por el número de ranuras), en milisegundos.
+     */
+    public double getVariacionPromedioMs() {
+        long n = ticks - 1;
+        return n <= 0 ? 0 : variacionTotalNanos / 1e6 / n;
+    }
+
+    public long getMinutosJugados() {
+        return minutosJugados.sum();
+    }
+
+    /**
+     * Minutos que no se jugaron a tiempo porque el anterior del mismo partido seguía
+     * en curso (los trabajadores no dan abasto).
+     */
+    public long getMinutosOmitidos() {
+        return minutosOmitidos.sum();
+    }
+
+    /**
+     * Excepciones lanzadas por los oyentes (se ignoran para no frenar a los partidos).
+     */
+    public long getErroresOyentes() {
+        return erroresOyentes.sum();
+    }
+
+    /**
+     * Lotes que los trabajadores no aceptaron; sus partidos esperan a la vuelta siguiente.
+     */
+    public long getLotesRechazados() {
+        return lotesRechazados.sum();
+    }
+
+    /**
+     * Última excepción lanzada por un oyente, o null si ninguno falló.
+     */
+    public RuntimeException getUltimoErrorOyente() {
+        return ultimoErrorOyente;
+    }
+
+    /**
+     * Detiene la rueda. Los partidos en curso quedan en el minuto que iban.
+     */
+    @Override
+    public void close() {
+        rueda.shutdownNow();
+    }
+}
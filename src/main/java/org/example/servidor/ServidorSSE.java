@@ -0,0 +1,505 @@
+package org.example.servidor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.core.CodigoEvento;
+import org.example.enums.TipoEvento;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transmite los partidos de un ServidorPartidos por HTTP con Server-Sent Events,
+ * usando solo el servidor HTTP del JDK. Escucha únicamente en localhost.
+ *
+ *   GET /eventos              todos los partidos
+ *   GET /eventos?partido=ID   un solo partido
+ *
+ * Cada mensaje se codifica una sola vez (texto SSE en UTF-8) y el mismo arreglo de
+ * bytes se encola en todos los clientes; nunca se copia por cliente. Hay tres tipos:
+ *   event: evento   un minuto con algo que contar (código, tipo, minuto, marcador)
+ *   event: cuotas   marcador y cuotas de GestorMercado después de cada minuto
+ *   event: fin      el partido terminó
+ *
+ * Cada cliente tiene una cola acotada de eventos y, aparte, una casilla por partido
+ * para las cuotas: si el cliente va atrasado, la cuota nueva pisa a la que no alcanzó
+ * a salir, así que solo recibe la última. Antes del fin de un partido se encola la
+ * cuota que quedaba pendiente, así ninguna cuota llega después de su "fin".
+ *
+ * Las escrituras las hace un pool fijo de hilos escritores: un cliente solo ocupa un
+ * hilo mientras tiene algo pendiente, no durante toda la conexión. Un cliente que no
+ * lee no puede quedarse con un escritor: se desconecta si se le llena la cola de
+ * eventos o si una escritura tarda más que el plazo (ver getDesconectados()). Para
+ * cortar una escritura trabada, un hilo vigilante interrumpe al escritor, lo que
+ * cierra el canal del socket de ese cliente.
+ */
+public class ServidorSSE implements OyentePartido, AutoCloseable {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 256;
+    public static final int ESCRITORES_POR_DEFECTO = 2;
+    public static final long PLAZO_ESCRITURA_MS_POR_DEFECTO = 5_000;
+
+    private static final String RUTA = "/eventos";
+
+    private final ServidorPartidos partidos;
+    private final HttpServer http;
+    private final ExecutorService escritores;
+    private final ScheduledExecutorService vigilante;
+    private final int capacidad;
+    private final long plazoEscrituraNanos;
+
+    // Clientes de todos los partidos y clientes de un partido en particular
+    private final List<Cliente> clientesTodos = new CopyOnWriteArrayList<>();
+    private final Map<Integer, List<Cliente>> clientesPorPartido = new ConcurrentHashMap<>();
+
+    private final LongAdder mensajes = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder desconectados = new LongAdder();
+
+    /**
+     * Abre el servidor en localhost con la capacidad y los escritores por defecto.
+     * @param partidos Servidor de partidos a transmitir
+     * @param puerto Puerto TCP (0 para uno libre; ver getPuerto())
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public ServidorSSE(ServidorPartidos partidos, int puerto) throws IOException {
+        this(partidos, puerto, CAPACIDAD_POR_DEFECTO, ESCRITORES_POR_DEFECTO, PLAZO_ESCRITURA_MS_POR_DEFECTO);
+    }
+
+    /**
+     * @param partidos Servidor de partidos a transmitir
+     * @param puerto Puerto TCP (0 para uno libre; ver getPuerto())
+     * @param capacidad Eventos pendientes por cliente; si se llena, el cliente se desconecta
+     * @param numEscritores Hilos que escriben a los clientes
+     * @param plazoEscrituraMs Tiempo máximo de una escritura antes de desconectar al cliente
+     * @throws IOException si no se puede abrir el puerto
+     * @throws IllegalArgumentException si la capacidad, el número de escritores o el plazo no es positivo
+     */
+    public ServidorSSE(ServidorPartidos partidos, int puerto, int capacidad, int numEscritores,
+                       long plazoEscrituraMs) throws IOException {
+        if (capacidad < 1 || numEscritores < 1 || plazoEscrituraMs < 1) {
+            throw new IllegalArgumentException("La capacidad, el número de escritores y el plazo deben ser positivos");
+        }
+        this.partidos = partidos;
+        this.capacidad = capacidad;
+        this.plazoEscrituraNanos = TimeUnit.MILLISECONDS.toNanos(plazoEscrituraMs);
+        this.escritores = Executors.newFixedThreadPool(numEscritores, r -> {
+            Thread hilo = new Thread(r, "escritor-sse");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.vigilante = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "vigilante-sse");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long periodo = Math.max(1, plazoEscrituraMs / 2);
+        vigilante.scheduleAtFixedRate(this::vigilarEscrituras, periodo, periodo, TimeUnit.MILLISECONDS);
+
+        this.http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        http.createContext(RUTA, this::atender);
+        http.start();
+        partidos.agregarOyente(this);
+    }
+
+    // ===== GETTERS =====
+
+    public int getPuerto() {
+        return http.getAddress().getPort();
+    }
+
+    public int getNumClientes() {
+        int n = clientesTodos.size();
+        for (List<Cliente> clientes : clientesPorPartido.values()) {
+            n += clientes.size();
+        }
+        return n;
+    }
+
+    /**
+     * Mensajes codificados (cada uno una sola vez, sin importar cuántos clientes haya).
+     */
+    public long getMensajes() {
+        return mensajes.sum();
+    }
+
+    /**
+     * Eventos que no se entregaron a algún cliente porque su cola estaba llena (el
+     * cliente se desconecta en ese momento).
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    /**
+     * Clientes desconectados por no leer: cola de eventos llena o escritura más larga que el plazo.
+     */
+    public long getDesconectados() {
+        return desconectados.sum();
+    }
+
+    // ===== CONEXIONES =====
+
+    private void atender(HttpExchange intercambio) throws IOException {
+        if (!"GET".equals(intercambio.getRequestMethod())) {
+            intercambio.sendResponseHeaders(405, -1);
+            intercambio.close();
+            return;
+        }
+
+        int partido;
+        try {
+            partido = leerPartido(intercambio.getRequestURI().getQuery());
+        } catch (IllegalArgumentException e) {
+            intercambio.sendResponseHeaders(400, -1);
+            intercambio.close();
+            return;
+        }
+
+        intercambio.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        intercambio.getResponseHeaders().set("Cache-Control", "no-cache");
+        intercambio.sendResponseHeaders(200, 0);
+
+        // La conexión queda abierta al volver: la atienden los escritores
+        Cliente cliente = new Cliente(intercambio, partido);
+        if (partido < 0) {
+            clientesTodos.add(cliente);
+        } else {
+            clientesPorPartido.computeIfAbsent(partido, k -> new CopyOnWriteArrayList<>()).add(cliente);
+            PartidoEnVivo enVivo = partidos.getPartido(partido);
+            if (enVivo != null && !enVivo.isTerminado()) {
+                // Que el cliente vea el marcador actual sin esperar al próximo minuto
+                cliente.ponerCuotas(partido, codificarCuotas(enVivo));
+            }
+        }
+    }
+
+    /**
+     * @return Id del parámetro "partido", o -1 si no viene
+     * @throws IllegalArgumentException si el parámetro no es un número válido
+     */
+    private static int leerPartido(String consulta) {
+        if (consulta == null) {
+            return -1;
+        }
+        for (String parametro : consulta.split("&")) {
+            if (parametro.startsWith("partido=")) {
+                int id = Integer.parseInt(parametro.substring("partido=".length()));
+                if (id < 0) {
+                    throw new IllegalArgumentException("Id de partido negativo: " + id);
+                }
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Deja de enviarle mensajes al cliente. La conexión la cierra un escritor (ver Cliente.run).
+     */
+    private void quitar(Cliente cliente) {
+        if (cliente.partido < 0) {
+            clientesTodos.remove(cliente);
+        } else {
+            List<Cliente> clientes = clientesPorPartido.get(cliente.partido);
+            if (clientes != null) {
+                clientes.remove(cliente);
+            }
+        }
+    }
+
+    private void vigilarEscrituras() {
+        long ahora = System.nanoTime();
+        for (Cliente cliente : clientesTodos) {
+            cliente.vigilar(ahora);
+        }
+        for (List<Cliente> clientes : clientesPorPartido.values()) {
+            for (Cliente cliente : clientes) {
+                cliente.vigilar(ahora);
+            }
+        }
+    }
+
+    // ===== OYENTE =====
+
+    @Override
+    public void minutoJugado(PartidoEnVivo partido, int codigo) {
+        List<Cliente> clientes = clientesPorPartido.get(partido.getId());
+        if (clientesTodos.isEmpty() && (clientes == null || clientes.isEmpty())) {
+            return;
+        }
+
+        TipoEvento tipo = CodigoEvento.tipo(codigo);
+        if (tipo != TipoEvento.NINGUNO) {
+            byte[] evento = codificarEvento(partido, codigo);
+            difundir(clientesTodos, evento);
+            difundir(clientes, evento);
+        }
+
+        byte[] cuotas = codificarCuotas(partido);
+        ponerCuotas(clientesTodos, partido.getId(), cuotas);
+        ponerCuotas(clientes, partido.getId(), cuotas);
+    }
+
+    @Override
+    public void partidoTerminado(PartidoEnVivo partido) {
+        List<Cliente> clientes = clientesPorPartido.get(partido.getId());
+        byte[] fin = codificar("fin", "{\"partido\":" + partido.getId() + "}");
+        terminar(clientesTodos, partido.getId(), fin);
+        terminar(clientes, partido.getId(), fin);
+    }
+
+    private void terminar(List<Cliente> clientes, int partido, byte[] fin) {
+        if (clientes == null) {
+            return;
+        }
+        for (Cliente cliente : clientes) {
+            cliente.terminarPartido(partido, fin);
+        }
+    }
+
+    private void difundir(List<Cliente> clientes, byte[] mensaje) {
+        if (clientes == null) {
+            return;
+        }
+        for (Cliente cliente : clientes) {
+            cliente.encolar(mensaje);
+        }
+    }
+
+    private void ponerCuotas(List<Cliente> clientes, int partido, byte[] mensaje) {
+        if (clientes == null) {
+            return;
+        }
+        for (Cliente cliente : clientes) {
+            cliente.ponerCuotas(partido, mensaje);
+        }
+    }
+
+    // ===== CODIFICACIÓN =====
+
+    private byte[] codificarEvento(PartidoEnVivo partido, int codigo) {
+        PartidoEnVivo.Estado estado = partido.getEstado();
+        return codificar("evento", "{\"partido\":" + partido.getId()
+                + ",\"codigo\":" + codigo
+                + ",\"tipo\":\"" + CodigoEvento.tipo(codigo) + '"'
+                + ",\"minuto\":" + CodigoEvento.minuto(codigo)
+                + ",\"equipo\":" + CodigoEvento.equipo(codigo)
+                + ",\"gol\":" + CodigoEvento.esGol(codigo)
+                + ",\"golesLocal\":" + estado.getGolesLocal()
+                + ",\"golesVisitante\":" + estado.getGolesVisitante() + '}');
+    }
+
+    private byte[] codificarCuotas(PartidoEnVivo partido) {
+        PartidoEnVivo.Estado estado = partido.getEstado();
+        return codificar("cuotas", "{\"partido\":" + partido.getId()
+                + ",\"minuto\":" + estado.getMinuto()
+                + ",\"golesLocal\":" + estado.getGolesLocal()
+                + ",\"golesVisitante\":" + estado.getGolesVisitante()
+                + ",\"cuotaLocal\":\"" + estado.getCuotaLocal() + '"'
+                + ",\"cuotaEmpate\":\"" + estado.getCuotaEmpate() + '"'
+                + ",\"cuotaVisitante\":\"" + estado.getCuotaVisitante() + '"'
+                + ",\"mercadoAbierto\":" + estado.isMercadoAbierto() + '}');
+    }
+
+    private byte[] codificar(String evento, String datos) {
+        mensajes.increment();
+        return ("event: " + evento + "\ndata: " + datos + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        partidos.quitarOyente(this);
+        http.stop(0);
+        vigilante.shutdownNow();
+        escritores.shutdownNow();
+        for (Cliente cliente : clientesTodos) {
+            cliente.intercambio.close();
+        }
+        for (List<Cliente> clientes : clientesPorPartido.values()) {
+            for (Cliente cliente : clientes) {
+                cliente.intercambio.close();
+            }
+        }
+    }
+
+    /**
+     * Una conexión SSE abierta. Los mensajes son los arreglos compartidos del servidor;
+     * nunca se modifican después de codificarse.
+     */
+    private final class Cliente implements Runnable {
+
+        private final HttpExchange intercambio;
+        private final OutputStream salida;
+        private final int partido;
+        private final ArrayBlockingQueue<byte[]> eventos = new ArrayBlockingQueue<>(capacidad);
+
+        // Última cuota pendiente por partido: la nueva pisa a la que no alcanzó a salir
+        private final Map<Integer, byte[]> cuotas = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean programado = new AtomicBoolean();
+        private final AtomicBoolean cortado = new AtomicBoolean();
+        private boolean cerrado; // Solo lo toca el escritor de turno
+
+        // Escritor en curso y desde cuándo (null si no se está escribiendo); los lee el vigilante
+        private Thread escritor;
+        private long escribiendoDesde;
+
+        Cliente(HttpExchange intercambio, int partido) {
+            this.intercambio = intercambio;
+            this.salida = intercambio.getResponseBody();
+            this.partido = partido;
+        }
+
+        void encolar(byte[] mensaje) {
+            if (!eventos.offer(mensaje)) {
+                // No lee lo que se le manda: se desconecta en vez de perder eventos en silencio
+                descartados.increment();
+                cortar();
+                return;
+            }
+            programar();
+        }
+
+        void ponerCuotas(int id, byte[] mensaje) {
+            cuotas.put(id, mensaje);
+            programar();
+        }
+
+        /**
+         * La cuota pendiente del partido sale antes del fin, por la misma cola.
+         */
+        void terminarPartido(int id, byte[] fin) {
+            byte[] pendiente = cuotas.remove(id);
+            if (pendiente != null) {
+                encolar(pendiente);
+            }
+            encolar(fin);
+        }
+
+        /**
+         * Saca al cliente del servidor; un escritor cierra la conexión. Si hay una
+         * escritura en curso, se interrumpe para que no espere al plazo.
+         */
+        void cortar() {
+            if (!cortado.compareAndSet(false, true)) {
+                return;
+            }
+            desconectados.increment();
+            quitar(this);
+            synchronized (this) {
+                if (escritor != null) {
+                    escritor.interrupt();
+                }
+            }
+            programar();
+        }
+
+        /**
+         * Lo llama el vigilante: corta al cliente si una escritura pasó el plazo.
+         */
+        void vigilar(long ahora) {
+            boolean vencida;
+            synchronized (this) {
+                vencida = escritor != null && ahora - escribiendoDesde > plazoEscrituraNanos;
+            }
+            if (vencida) {
+                cortar();
+            }
+        }
+
+        private void programar() {
+            if (programado.compareAndSet(false, true)) {
+                try {
+                    escritores.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // El servidor se está cerrando
+                    programado.set(false);
+                }
+            }
+        }
+
+        /**
+         * Escribe una vuelta de lo pendiente y suelta el hilo, para no acaparar a los
+         * escritores con un cliente que recibe sin parar. Si el cliente se cortó, cierra
+         * la conexión. Todo bajo el plazo del vigilante: si el socket no acepta más datos,
+         * el vigilante interrumpe este hilo y eso cierra el canal.
+         */
+        @Override
+        public void run() {
+            if (cerrado) {
+                programado.set(false);
+                return;
+            }
+            synchronized (this) {
+                escritor = Thread.currentThread();
+                escribiendoDesde = System.nanoTime();
+            }
+            try {
+                if (cortado.get()) {
+                    cerrar();
+                    return;
+                }
+                boolean escribio = false;
+                byte[] mensaje;
+                for (int i = 0; i < capacidad && (mensaje = eventos.poll()) != null; i++) {
+                    salida.write(mensaje);
+                    escribio = true;
+                }
+                for (Integer id : cuotas.keySet()) {
+                    mensaje = cuotas.remove(id);
+                    if (mensaje != null) {
+                        salida.write(mensaje);
+                        escribio = true;
+                    }
+                }
+                if (escribio) {
+                    salida.flush();
+                }
+            } catch (IOException e) {
+                // El cliente cerró la conexión o el vigilante cortó la escritura
+                cortar();
+                cerrar();
+                return;
+            } finally {
+                synchronized (this) {
+                    escritor = null;
+                }
+                // Una interrupción del vigilante no debe quedar en el hilo del pool
+                Thread.interrupted();
+                programado.set(false);
+            }
+
+            // Algo pudo llegar mientras se escribía, o se cortó al cliente
+            if (cortado.get() || !eventos.isEmpty() || !cuotas.isEmpty()) {
+                programar();
+            }
+        }
+
+        private void cerrar() {
+            cerrado = true;
+            eventos.clear();
+            cuotas.clear();
+            try {
+                intercambio.close();
+            } catch (RuntimeException e) {
+                // El canal ya estaba cerrado
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de números aleatorios con semilla (algoritmo SplitMix64, el mismo
+ * que usa java.util.SplittableRandom).
+ *
+ * Todo el estado es un solo long, así que un partido con la misma semilla
+ * siempre se juega igual. No es seguro entre hilos: cada partido debe tener
+ * su propio generador (se puede obtener uno independiente con dividir()).
+ */
+public final class Aleatorio {
+
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double UNIDAD_DOUBLE = 0x1.0p-53;
+
+    // Semillas para los generadores creados sin semilla explícita
+    private static final AtomicLong SEMILLAS = new AtomicLong(mezclar(System.nanoTime()));
+
+    private long semilla;
+
+    /**
+     * Constructor sin semilla. Cada instancia recibe una semilla distinta.
+     */
+    public Aleatorio() {
+        this(mezclar(SEMILLAS.addAndGet(GAMMA)));
+    }
+
+    public Aleatorio(long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * Constructor de copia. La copia continúa la misma secuencia que el original
+     * desde el punto actual, sin afectarlo.
+     * @param original Generador a copiar
+     */
+    public Aleatorio(Aleatorio original) {
+        this.semilla = original.semilla;
+    }
+
+    // ===== GENERACIÓN =====
+
+    public long siguienteLong() {
+        return mezclar(semilla += GAMMA);
+    }
+
+    /**
+     * Entero uniforme entre 0 (inclusive) y limite (exclusivo).
+     * @param limite Límite superior, debe ser positivo
+     */
+    public int siguienteEntero(int limite) {
+        return aEntero(siguienteLong(), limite);
+    }
+
+    /**
+     * Double uniforme en [0, 1).
+     */
+    public double siguienteDouble() {
+        return aDouble(siguienteLong());
+    }
+
+    public boolean siguienteBooleano() {
+        return siguienteLong() < 0;
+    }
+
+    /**
+     * Crea un generador independiente a partir de este.
+     * Sirve para darle a cada hilo o cada partido su propio flujo de números.
+     * @return Nuevo generador
+     */
+    public Aleatorio dividir() {
+        return new Aleatorio(mezclar(siguienteLong()));
+    }
+
+    // ===== ESTADO EXTERNO =====
+    // Para guardar muchos generadores en un long[] (uno por partido) sin crear objetos.
+    // Un estado avanzado con avanzar() y pasado por mezclar() da la misma secuencia
+    // que un Aleatorio creado con ese estado como semilla.
+
+    /**
+     * Avanza un estado guardado fuera de esta clase.
+     * @param estado Estado actual
+     * @return Estado siguiente; su salida es mezclar(estadoSiguiente)
+     */
+    public static long avanzar(long estado) {
+        return estado + GAMMA;
+    }
+
+    /**
+     * Convierte 64 bits aleatorios en un entero entre 0 (inclusive) y limite (exclusivo).
+     */
+    public static int aEntero(long bits, int limite) {
+        return (int) (((bits >>> 33) * limite) >>> 31);
+    }
+
+    /**
+     * Convierte 64 bits aleatorios en un double uniforme en [0, 1).
+     */
+    public static double aDouble(long bits) {
+        return (bits >>> 11) * UNIDAD_DOUBLE;
+    }
+
+    // ===== SEMILLAS =====
+
+    /**
+     * Semilla del partido número indice dentro de una simulación con semillaBase.
+     * Solo depende de los dos valores, no del hilo que la pida ni del orden.
+     */
+    public static long semillaDerivada(long semillaBase, long indice) {
+        return mezclar(semillaBase + (indice + 1) * GAMMA);
+    }
+
+    /**
+     * Función de mezcla de SplitMix64 (variante 13 de Stafford).
+     */
+    public static long mezclar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada de cuotas 1X2 compartida entre muchos GestorMercado que calculan con
+ * Poisson, sin TablaCuotas (ver BenchmarkCache). Muchos partidos pasan por estados casi
+ * iguales (mismo marcador, equipos de fuerza parecida, mismo tiempo por jugar), así
+ * que las cuotas se guardan por estado y se reutilizan.
+ *
+ * La clave es la diferencia de goles y las dos lambdas redondeadas a LAMBDA_PASO: con
+ * Poisson el 1X2 solo depende de eso (el minuto ya está dentro de las lambdas, que
+ * se escalan por el tiempo que falta), así que estados de minutos o marcadores
+ * distintos con la misma clave comparten la entrada.
+ *
+ * Es asociativa por conjuntos: cada clave solo puede estar en las VIAS casillas de su
+ * conjunto, y al insertar se reemplaza la menos usada del conjunto (LRU aproximado: el
+ * uso se marca con el reloj de inserciones, no con cada lectura exacta).
+ *
+ * Todo vive en un solo AtomicLongArray, un bloque por conjunto con las versiones, las
+ * claves, las marcas de uso y las cuotas de sus VIAS casillas seguidas, así que buscar
+ * toca pocas líneas de caché y no crea objetos.
+ *
+ * Cada casilla tiene una versión que es impar mientras se escribe. Quien inserta la
+ * pasa de par a impar con compareAndSet (si falla, otro hilo está escribiendo y este
+ * simplemente no guarda: la caché no garantiza guardar todo), escribe la clave y las
+ * cuotas y la deja en el par siguiente. Las lecturas no toman candados: leen la
+ * versión, la clave, las cuotas y otra vez la versión, y solo aceptan si la versión es
+ * par y no cambió. Comparar la versión y no la clave evita mezclar cuotas de dos
+ * claves cuando la casilla cambia a otra clave y vuelve a la misma durante la lectura.
+ *
+ * Solo sirve para el camino de Poisson: con tabla, las cuotas salen de la TablaCuotas,
+ * que es más barata que la caché. Por eso un GestorMercado con caché no acepta
+ * prepararTabla, y ServidorPartidos y SimuladorFutbol, que preparan la tabla de cada
+ * partido, no la usan.
+ */
+public class CacheCuotas {
+
+    public static final int VIAS = 4;
+    public static final double LAMBDA_PASO = 0.01;
+
+    // Clave: diferencia de goles + DESPLAZAMIENTO_DIFERENCIA (8 bits) | lambda local (16) | lambda visitante (16)
+    static final long SIN_CLAVE = -1;
+    private static final int DESPLAZAMIENTO_DIFERENCIA = 1 << 7;
+    private static final int MAX_DIFERENCIA = DESPLAZAMIENTO_DIFERENCIA - 1;
+    private static final long MAX_LAMBDA = (1 << 16) - 1;
+
+    // Bloque de un conjunto: VIAS versiones, VIAS claves, VIAS usos y 3 cuotas por casilla
+    private static final int CLAVES = VIAS;
+    private static final int USOS = 2 * VIAS;
+    private static final int CUOTAS = 3 * VIAS;
+    private static final int TAMANO_CONJUNTO = 6 * VIAS;
+
+    private final AtomicLongArray datos;
+    private final int mascaraConjuntos;
+    private volatile long reloj;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder reemplazos = new LongAdder();
+
+    /**
+     * @param capacidad Número máximo de estados guardados (se redondea a una potencia de 2, mínimo VIAS)
+     * @throws IllegalArgumentException si la capacidad no es positiva
+     */
+    public CacheCuotas(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        int necesarios = (capacidad + VIAS - 1) / VIAS;
+        int conjuntos = Integer.highestOneBit(necesarios);
+        if (conjuntos < necesarios) {
+            conjuntos <<= 1;
+        }
+        this.mascaraConjuntos = conjuntos - 1;
+        this.datos = new AtomicLongArray(conjuntos * TAMANO_CONJUNTO);
+        for (int conjunto = 0; conjunto < conjuntos; conjunto++) {
+            for (int via = 0; via < VIAS; via++) {
+                datos.set(conjunto * TAMANO_CONJUNTO + CLAVES + via, SIN_CLAVE);
+            }
+        }
+    }
+
+    // ===== CLAVES =====
+
+    /**
+     * Arma la clave de un estado.
+     * @param diferencia Goles del local menos goles del visitante
+     * @param lambdaLocal Lambda del local ya cuantizada
+     * @param lambdaVisitante Lambda del visitante ya cuantizada
+     * @return Clave, o SIN_CLAVE si algún valor no entra en la clave (no se guarda)
+     */
+    static long clave(int diferencia, long lambdaLocal, long lambdaVisitante) {
+        if (diferencia < -DESPLAZAMIENTO_DIFERENCIA || diferencia > MAX_DIFERENCIA
+                || lambdaLocal < 0 || lambdaLocal > MAX_LAMBDA || lambdaVisitante < 0 || lambdaVisitante > MAX_LAMBDA) {
+            return SIN_CLAVE;
+        }
+        return ((long) (diferencia + DESPLAZAMIENTO_DIFERENCIA) << 32) | (lambdaLocal << 16) | lambdaVisitante;
+    }
+
+    /**
+     * Lambda redondeada a múltiplos de LAMBDA_PASO.
+     */
+    static long cuantizar(double lambda) {
+        return Math.round(lambda / LAMBDA_PASO);
+    }
+
+    private int inicioConjunto(long clave) {
+        // Se mezclan los bits para que claves parecidas caigan en conjuntos distintos
+        long h = clave * 0x9E3779B97F4A7C15L;
+        int conjunto = (int) (h ^ (h >>> 32)) & mascaraConjuntos;
+        return conjunto * TAMANO_CONJUNTO;
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Busca un estado sin tomar candados.
+     * @param cuotas Arreglo de al menos 3 posiciones donde se copian local, empate y visitante si está
+     * @return true si el estado estaba (y cuotas quedó lleno)
+     */
+    boolean buscar(long clave, double[] cuotas) {
+        int inicio = inicioConjunto(clave);
+        for (int via = 0; via < VIAS; via++) {
+            long version = datos.get(inicio + via);
+            if ((version & 1) != 0 || datos.get(inicio + CLAVES + via) != clave) {
+                continue;
+            }
+            int i = inicio + CUOTAS + via * 3;
+            double local = Double.longBitsToDouble(datos.get(i));
+            double empate = Double.longBitsToDouble(datos.get(i + 1));
+            double visitante = Double.longBitsToDouble(datos.get(i + 2));
+            // Si la casilla se escribió mientras se leía, las cuotas pueden ser de otra clave
+            if (datos.get(inicio + via) != version) {
+                break;
+            }
+            cuotas[0] = local;
+            cuotas[1] = empate;
+            cuotas[2] = visitante;
+
+            // Solo se escribe si cambió, para no ensuciar la línea de caché en cada lectura
+            long ahora = reloj;
+            if (datos.get(inicio + USOS + via) != ahora) {
+                datos.lazySet(inicio + USOS + via, ahora);
+            }
+            aciertos.increment();
+            return true;
+        }
+        fallos.increment();
+        return false;
+    }
+
+    /**
+     * Guarda las cuotas de un estado en la casilla vacía o menos usada de su conjunto.
+     */
+    void guardar(long clave, double cuotaLocal, double cuotaEmpate, double cuotaVisitante) {
+        int inicio = inicioConjunto(clave);
+        int victima = -1;
+        for (int via = 0; via < VIAS; via++) {
+            long actual = datos.get(inicio + CLAVES + via);
+            if (actual == clave) {
+                return; // Otro hilo ya la guardó (o la está guardando)
+            }
+            if (actual == SIN_CLAVE) {
+                victima = via;
+                break;
+            }
+            if (victima < 0 || datos.get(inicio + USOS + via) < datos.get(inicio + USOS + victima)) {
+                victima = via;
+            }
+        }
+
+        long version = datos.get(inicio + victima);
+        if ((version & 1) != 0 || !datos.compareAndSet(inicio + victima, version, version + 1)) {
+            return; // Otro hilo está escribiendo la casilla
+        }
+        long anterior = datos.get(inicio + CLAVES + victima);
+        int i = inicio + CUOTAS + victima * 3;
+        datos.set(inicio + CLAVES + victima, clave);
+        datos.set(i, Double.doubleToRawLongBits(cuotaLocal));
+        datos.set(i + 1, Double.doubleToRawLongBits(cuotaEmpate));
+        datos.set(i + 2, Double.doubleToRawLongBits(cuotaVisitante));
+        datos.set(inicio + USOS + victima, ++reloj); // Carrera benigna: solo ordena los usos de forma aproximada
+        datos.set(inicio + victima, version + 2);
+        if (anterior != SIN_CLAVE) {
+            reemplazos.increment();
+        }
+    }
+
+    // ===== MÉTRICAS =====
+
+    public int getCapacidad() {
+        return (mascaraConjuntos + 1) * VIAS;
+    }
+
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    /**
+     * Entradas que se sacaron para hacer lugar a otras.
+     */
+    public long getReemplazos() {
+        return reemplazos.sum();
+    }
+
+    /**
+     * Fracción de búsquedas que encontraron el estado (0 si no hubo búsquedas).
+     */
+    public double getTasaAciertos() {
+        long a = aciertos.sum();
+        long total = a + fallos.sum();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheCuotas[capacidad=%d, aciertos=%d, fallos=%d, reemplazos=%d, tasa=%.1f%%]",
+                getCapacidad(), getAciertos(), getFallos(), getReemplazos(), getTasaAciertos() * 100);
+    }
+}
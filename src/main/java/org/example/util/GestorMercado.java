@@ -1,27 +1,124 @@
 package org.example.util;
 
+import org.example.core.CadenaMarkovPartido;
+import org.example.core.DistribucionResultados;
 import org.example.entidades.Equipos;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 public class GestorMercado {
 
     // muy largo de calcular, lo hice una constante
     private static final double GOLES_BASE_LIGA = 1.3;
+    private static final double MARGEN = 0.90; // El casino se queda con el 10%
+    private static final int MAX_GOLES = MercadosPartido.MAX_GOLES; // goles por equipo que se consideran en el tiempo restante
+    private static final int MINUTOS_PARTIDO = 90;
+
+    // 1/k precalculado: la recurrencia de Poisson multiplica en vez de dividir
+    private static final double[] INVERSOS = new double[MAX_GOLES + 1];
+    static {
+        for (int k = 1; k <= MAX_GOLES; k++) {
+            INVERSOS[k] = 1.0 / k;
+        }
+    }
 
     // atributos
     private double cuotaLocal;
     private double cuotaVisitante;
     private double cuotaEmpate;
 
+    // Probabilidades de Poisson de cada equipo; se reutilizan en cada actualización
+    private final double[] probsLocal = new double[MAX_GOLES + 1];
+    private final double[] probsVisitante = new double[MAX_GOLES + 1];
+
+    // Tabla armada al saque inicial (null = se calcula con Poisson en cada minuto).
+    // De la cadena solo se guardan las probabilidades de gol por minuto: la matriz de
+    // los mercados se vuelve a calcular con ellas cuando se piden, sin mantener viva
+    // la cadena entera (unos 100 KB por partido)
+    private TablaCuotas tabla;
+    private double golLocalTabla;
+    private double golVisitanteTabla;
+    private int disponiblesLocal;
+    private int disponiblesVisitante;
+
+    // Resto de los mercados, sobre una sola matriz de goles que faltan
+    private final MercadosPartido mercados = new MercadosPartido(MARGEN);
+
+    // Los mercados se calculan recién cuando se piden; con tabla o cadena, la matriz también
+    private boolean mercadosPendientes;
+    private boolean matrizPorCadena;
+    private double golLocalPendiente;
+    private double golVisitantePendiente;
+    private final double[] matrizAuxiliar = new double[(MAX_GOLES + 1) * (MAX_GOLES + 1)];
+    private int minutoPendiente;
+    private int golesLocalPendiente;
+    private int golesVisitantePendiente;
+
+    // Si la cuota salió de la caché, la matriz se arma con estas lambdas al pedir los mercados
+    private boolean matrizPorLambdas;
+    private double lambdaLocalPendiente;
+    private double lambdaVisitantePendiente;
+
+    // Caché compartida de cuotas (null = sin caché) y buffer para leerla
+    private final CacheCuotas cache;
+    private final double[] cuotasCache = new double[3];
+
     // Constructor
     public GestorMercado() {
+        this(null);
+    }
+
+    /**
+     * Mercado que consulta una caché compartida antes de calcular con Poisson. Es solo
+     * para mercados sin tabla: con caché, prepararTabla lanza IllegalStateException.
+     * Las lambdas se redondean a CacheCuotas.LAMBDA_PASO para que las cuotas dependan
+     * solo de la clave.
+     * @param cache Caché compartida con otros partidos, o null para no usarla
+     */
+    public GestorMercado(CacheCuotas cache) {
         this.cuotaLocal = 1.0;
         this.cuotaEmpate = 1.0;
         this.cuotaVisitante = 1.0;
+        this.cache = cache;
+    }
+
+    /**
+     * Arma al saque inicial la tabla de cuotas de todos los estados del partido (ver
+     * TablaCuotas). Desde ahí actualizarCuotas solo lee la tabla; si un equipo pierde un
+     * jugador por expulsión, la tabla se vuelve a armar solo para los minutos que faltan.
+     * @param equipoLocal Equipo local con su alineación inicial
+     * @param equipoVisitante Equipo visitante con su alineación inicial
+     * @throws IllegalStateException si el mercado usa una CacheCuotas (la tabla la dejaría sin uso)
+     */
+    public void prepararTabla(Equipos equipoLocal, Equipos equipoVisitante) {
+        if (cache != null) {
+            throw new IllegalStateException("Un mercado con CacheCuotas calcula con Poisson, sin tabla");
+        }
+        construirTabla(0, equipoLocal, equipoVisitante);
+    }
+
+    private void construirTabla(int minutoSiguiente, Equipos equipoLocal, Equipos equipoVisitante) {
+        CadenaMarkovPartido cadena = new CadenaMarkovPartido(equipoLocal, equipoVisitante, minutoSiguiente);
+        this.tabla = new TablaCuotas(cadena, MINUTOS_PARTIDO + 1, MARGEN);
+        this.golLocalTabla = cadena.getProbabilidadGolLocal();
+        this.golVisitanteTabla = cadena.getProbabilidadGolVisitante();
+        this.disponiblesLocal = equipoLocal.contarJugadoresDisponibles();
+        this.disponiblesVisitante = equipoVisitante.contarJugadoresDisponibles();
+    }
+
+    /**
+     * Tabla de cuotas en uso, o null si no se preparó.
+     */
+    public TablaCuotas getTabla() {
+        return tabla;
     }
 
     public void actualizarCuotas(int minuto, int golesLocalActuales, int golesVisitaActuales, Equipos equipoLocal, Equipos equipoVisitante) {
+        if (tabla != null) {
+            actualizarDesdeTabla(minuto + 1, golesLocalActuales, golesVisitaActuales, equipoLocal, equipoVisitante);
+            return;
+        }
+
         int minutosRestantes = 90 - minuto;
         double factorTiempo = (double) minutosRestantes / 90.0;
 
@@ -33,21 +130,45 @@ public class GestorMercado {
         double lambdaLocal = calcularLambda(equipoLocal, equipoVisitante, factorTiempo);
         double lambdaVisitante = calcularLambda(equipoVisitante, equipoLocal, factorTiempo);
 
+        long clave = CacheCuotas.SIN_CLAVE;
+        if (cache != null) {
+            long lambdaLocalCuantizada = CacheCuotas.cuantizar(lambdaLocal);
+            long lambdaVisitanteCuantizada = CacheCuotas.cuantizar(lambdaVisitante);
+            clave = CacheCuotas.clave(golesLocalActuales - golesVisitaActuales,
+                    lambdaLocalCuantizada, lambdaVisitanteCuantizada);
+            if (clave != CacheCuotas.SIN_CLAVE) {
+                lambdaLocal = lambdaLocalCuantizada * CacheCuotas.LAMBDA_PASO;
+                lambdaVisitante = lambdaVisitanteCuantizada * CacheCuotas.LAMBDA_PASO;
+
+                if (cache.buscar(clave, cuotasCache)) {
+                    this.cuotaLocal = cuotasCache[0];
+                    this.cuotaEmpate = cuotasCache[1];
+                    this.cuotaVisitante = cuotasCache[2];
+                    marcarMercadosPendientes(minuto + 1, golesLocalActuales, golesVisitaActuales);
+                    this.matrizPorLambdas = true;
+                    this.lambdaLocalPendiente = lambdaLocal;
+                    this.lambdaVisitantePendiente = lambdaVisitante;
+                    return;
+                }
+            }
+        }
+
         // calculamos las probabilidades de que cada equipo meta exactamente k goles en el tiempo restante usando la formula de poisson
-        ArrayList<Double> probsLocal = calcularProbabilidadPoisson(lambdaLocal);
-        ArrayList<Double> probsVisitante = calcularProbabilidadPoisson(lambdaVisitante);
+        calcularProbabilidadPoisson(lambdaLocal, probsLocal);
+        calcularProbabilidadPoisson(lambdaVisitante, probsVisitante);
 
-        // Suma de Probabilidades
+        // Matriz conjunta de goles que faltan; el 1X2 sale en la misma vuelta que la llena
+        // y el resto de los mercados se calcula sobre ella solo si se piden (getMercados)
+        double[] matriz = mercados.getMatriz();
         double sumaVictoriaLocal = 0.0;
         double sumaEmpate = 0.0;
         double sumaVictoriaVisita = 0.0;
 
+        for (int i = 0; i <= MAX_GOLES; i++) {
+            for (int j = 0; j <= MAX_GOLES; j++) {
 
-
-        for (int i = 0; i < probsLocal.size(); i++) {
-            for (int j = 0; j < probsVisitante.size(); j++) {
-
-                double probEscenario = probsLocal.get(i) * probsVisitante.get(j);
+                double probEscenario = probsLocal[i] * probsVisitante[j];
+                matriz[i * (MAX_GOLES + 1) + j] = probEscenario;
 
                 // El resultado final es lo que ya llevan + lo que van a meter
                 int marcadorFinalLocal = golesLocalActuales + i;
@@ -62,11 +183,127 @@ public class GestorMercado {
                 }
             }
         }
+        marcarMercadosPendientes(minuto + 1, golesLocalActuales, golesVisitaActuales);
+
+        fijarCuotas(sumaVictoriaLocal, sumaEmpate, sumaVictoriaVisita);
+        if (clave != CacheCuotas.SIN_CLAVE) {
+            cache.guardar(clave, cuotaLocal, cuotaEmpate, cuotaVisitante);
+        }
+    }
+
+    private void actualizarDesdeTabla(int minutoSiguiente, int golesLocal, int golesVisitante,
+                                      Equipos equipoLocal, Equipos equipoVisitante) {
+        // Una expulsión cambia las probabilidades de gol de aquí en adelante
+        if (equipoLocal.contarJugadoresDisponibles() != disponiblesLocal
+                || equipoVisitante.contarJugadoresDisponibles() != disponiblesVisitante
+                || minutoSiguiente < tabla.getMinutoDesde()) {
+            construirTabla(Math.min(minutoSiguiente, MINUTOS_PARTIDO + 1), equipoLocal, equipoVisitante);
+        }
+        int minuto = Math.min(minutoSiguiente, tabla.getMinutoHasta());
+        this.cuotaLocal = tabla.getCuotaLocal(minuto, golesLocal, golesVisitante);
+        this.cuotaEmpate = tabla.getCuotaEmpate(minuto, golesLocal, golesVisitante);
+        this.cuotaVisitante = tabla.getCuotaVisitante(minuto, golesLocal, golesVisitante);
+        marcarMercadosPendientes(minuto, golesLocal, golesVisitante);
+        marcarMatrizPorCadena(golLocalTabla, golVisitanteTabla);
+    }
+
+    /**
+     * Marca los mercados para calcularlos en el próximo getMercados, con la matriz como está.
+     */
+    private void marcarMercadosPendientes(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        this.mercadosPendientes = true;
+        this.matrizPorLambdas = false;
+        this.matrizPorCadena = false;
+        this.minutoPendiente = minutoSiguiente;
+        this.golesLocalPendiente = golesLocal;
+        this.golesVisitantePendiente = golesVisitante;
+    }
+
+    /**
+     * La matriz se arma con la cadena de Markov (ver CadenaMarkovPartido.calcularGolesRestantes)
+     * recién al pedir los mercados.
+     */
+    private void marcarMatrizPorCadena(double golLocal, double golVisitante) {
+        this.matrizPorCadena = true;
+        this.golLocalPendiente = golLocal;
+        this.golVisitantePendiente = golVisitante;
+    }
+
+    /**
+     * Todos los mercados (marcador exacto, más/menos, ambos marcan, doble oportunidad y
+     * hándicap asiático) del mismo estado que la última actualización de cuotas.
+     * Se calculan aquí, en una sola pasada sobre la matriz, y no en cada actualización:
+     * así actualizarCuotas sigue costando lo mismo (o una lectura de tabla) si nadie los pide.
+     * @return Mercados del partido (el mismo objeto en cada llamada)
+     */
+    public MercadosPartido getMercados() {
+        if (mercadosPendientes) {
+            if (matrizPorCadena) {
+                CadenaMarkovPartido.calcularGolesRestantes(golLocalPendiente, golVisitantePendiente,
+                        minutoPendiente, mercados.getMatriz(), matrizAuxiliar);
+                matrizPorCadena = false;
+            } else if (matrizPorLambdas) {
+                llenarMatrizPoisson(lambdaLocalPendiente, lambdaVisitantePendiente);
+                matrizPorLambdas = false;
+            }
+            mercados.calcular(golesLocalPendiente, golesVisitantePendiente);
+            mercadosPendientes = false;
+        }
+        return mercados;
+    }
+
+    private void llenarMatrizPoisson(double lambdaLocal, double lambdaVisitante) {
+        calcularProbabilidadPoisson(lambdaLocal, probsLocal);
+        calcularProbabilidadPoisson(lambdaVisitante, probsVisitante);
+        double[] matriz = mercados.getMatriz();
+        for (int i = 0; i <= MAX_GOLES; i++) {
+            for (int j = 0; j <= MAX_GOLES; j++) {
+                matriz[i * (MAX_GOLES + 1) + j] = probsLocal[i] * probsVisitante[j];
+            }
+        }
+    }
+
+    /**
+     * Alternativa a la fórmula de Poisson: toma las probabilidades de una distribución
+     * de resultados simulada (por ejemplo, de InstantaneaPartido.simularResto).
+     * @param distribucion Marcadores finales simulados
+     */
+    public void actualizarCuotas(DistribucionResultados distribucion) {
+        // Marcadores finales desde 0-0; los de más de MAX_GOLES goles van a la última casilla
+        double[] matriz = mercados.getMatriz();
+        Arrays.fill(matriz, 0.0);
+        for (int i = 0; i <= DistribucionResultados.MAX_GOLES; i++) {
+            for (int j = 0; j <= DistribucionResultados.MAX_GOLES; j++) {
+                matriz[Math.min(i, MAX_GOLES) * (MAX_GOLES + 1) + Math.min(j, MAX_GOLES)]
+                        += distribucion.getProbabilidadMarcador(i, j);
+            }
+        }
+        marcarMercadosPendientes(0, 0, 0);
 
-        double margen = 0.90; // El casino se queda con el 10%
-        this.cuotaLocal = margen / Math.max(sumaVictoriaLocal, 0.0001);
-        this.cuotaEmpate = margen / Math.max(sumaEmpate, 0.0001);
-        this.cuotaVisitante = margen / Math.max(sumaVictoriaVisita, 0.0001);
+        fijarCuotas(distribucion.getProbabilidadLocal(), distribucion.getProbabilidadEmpate(),
+                distribucion.getProbabilidadVisitante());
+    }
+
+    /**
+     * Cuotas exactas según el modelo de eventos del partido (ver CadenaMarkovPartido),
+     * sin Poisson ni simulación.
+     * @param cadena Cadena construida con las alineaciones actuales
+     * @param minutoSiguiente Próximo minuto por jugar
+     * @param golesLocal Goles actuales del local
+     * @param golesVisitante Goles actuales del visitante
+     */
+    public void actualizarCuotas(CadenaMarkovPartido cadena, int minutoSiguiente, int golesLocal, int golesVisitante) {
+        fijarCuotas(cadena.getProbabilidadLocal(minutoSiguiente, golesLocal, golesVisitante),
+                cadena.getProbabilidadEmpate(minutoSiguiente, golesLocal, golesVisitante),
+                cadena.getProbabilidadVisitante(minutoSiguiente, golesLocal, golesVisitante));
+        marcarMercadosPendientes(minutoSiguiente, golesLocal, golesVisitante);
+        marcarMatrizPorCadena(cadena.getProbabilidadGolLocal(), cadena.getProbabilidadGolVisitante());
+    }
+
+    private void fijarCuotas(double probLocal, double probEmpate, double probVisitante) {
+        this.cuotaLocal = MARGEN / Math.max(probLocal, 0.0001);
+        this.cuotaEmpate = MARGEN / Math.max(probEmpate, 0.0001);
+        this.cuotaVisitante = MARGEN / Math.max(probVisitante, 0.0001);
     }
 
     /**
@@ -94,24 +331,20 @@ public class GestorMercado {
     }
 
 
-    private ArrayList<Double> calcularProbabilidadPoisson(double lambda) {
-        ArrayList probabilidades = new ArrayList<>();
-
-        for (int k = 0; k <= 10; k++){
-            double probabilidad = (Math.pow(lambda, k)) * (Math.exp(-lambda)) / factorial(k);
-            probabilidades.add(probabilidad);
-        }
-
-        return probabilidades;
-    }
-
-    private double factorial(int n) {
-        if (n == 0) return 1;
-        double resultado = 1;
-        for (int i = 1; i <= n; i++) {
-            resultado *= i;
+    /**
+     * Probabilidad de meter exactamente k goles (k = 0 a MAX_GOLES) con la fórmula de Poisson.
+     * Se calcula por recurrencia, P(k) = P(k-1) * lambda / k, partiendo de P(0) = e^-lambda:
+     * una sola exponencial y sin potencias ni factoriales. No crea objetos.
+     * @param lambda Goles esperados
+     * @param destino Arreglo de MAX_GOLES + 1 posiciones donde se escriben las probabilidades
+     */
+    static void calcularProbabilidadPoisson(double lambda, double[] destino) {
+        double probabilidad = Math.exp(-lambda);
+        destino[0] = probabilidad;
+        for (int k = 1; k <= MAX_GOLES; k++) {
+            probabilidad *= lambda * INVERSOS[k];
+            destino[k] = probabilidad;
         }
-        return resultado;
     }
 
 
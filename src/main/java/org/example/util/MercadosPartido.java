@@ -0,0 +1,280 @@
+package org.example.util;
+
+import org.example.core.CadenaMarkovPartido;
+
+import java.util.Arrays;
+
+/**
+ * Todos los mercados de un partido a partir de una sola matriz de goles que faltan:
+ * 1X2, doble oportunidad, marcador exacto, más/menos de 0.5 a 5.5 goles, ambos marcan
+ * y hándicap asiático.
+ *
+ * La matriz (MAX_GOLES + 1)² guarda en [x * (MAX_GOLES + 1) + y] la probabilidad de que
+ * el local meta x goles más y el visitante y. Se recorre una sola vez y de esa pasada
+ * salen el 1X2, ambos marcan y las distribuciones del total y de la diferencia de goles;
+ * los demás mercados se arman con esas distribuciones, sin volver a la matriz.
+ *
+ * Todos los arreglos se reservan al crear el objeto, así que recalcular no crea objetos
+ * y la memoria por partido es fija.
+ *
+ * NOTA: No es seguro entre hilos; cada GestorMercado tiene el suyo.
+ */
+public class MercadosPartido {
+
+    public static final int MAX_GOLES = CadenaMarkovPartido.MAX_GOLES;
+    private static final int LADO = MAX_GOLES + 1;
+
+    // Líneas de más/menos: 0.5, 1.5, ... 5.5 goles
+    public static final int NUM_LINEAS_GOLES = 6;
+
+    // Hándicap asiático del local, de -MAX_HANDICAP a +MAX_HANDICAP en cuartos de gol
+    public static final double MAX_HANDICAP = 3.0;
+    private static final int CUARTOS_HANDICAP = (int) (MAX_HANDICAP * 4);
+
+    private final double margen;
+    private final double[] matriz = new double[LADO * LADO];
+
+    // Distribuciones de la pasada: total de goles que faltan (0..2*MAX) y diferencia (-MAX..MAX)
+    private final double[] totales = new double[2 * MAX_GOLES + 1];
+    private final double[] diferencias = new double[2 * MAX_GOLES + 1];
+
+    // hastaDiferencia[k + 1]: probabilidad de que la diferencia que falta sea <= k - MAX_GOLES
+    private final double[] hastaDiferencia = new double[2 * MAX_GOLES + 2];
+
+    private int golesLocal;
+    private int golesVisitante;
+    private double probLocal;
+    private double probEmpate;
+    private double probVisitante;
+    private double probAmbosMarcan;
+    private final double[] probMas = new double[NUM_LINEAS_GOLES];
+    private final double[] cuotasHandicap = new double[2 * CUARTOS_HANDICAP + 1];
+
+    /**
+     * @param margen Fracción que se paga al apostador (cuota = margen / probabilidad)
+     */
+    public MercadosPartido(double margen) {
+        this.margen = margen;
+    }
+
+    // ===== CÁLCULO =====
+
+    /**
+     * Matriz de goles que faltan; quien la llena después llama a calcular.
+     */
+    double[] getMatriz() {
+        return matriz;
+    }
+
+    /**
+     * Recalcula todos los mercados con la matriz actual.
+     * @param golesLocalActuales Goles que ya lleva el local
+     * @param golesVisitanteActuales Goles que ya lleva el visitante
+     */
+    void calcular(int golesLocalActuales, int golesVisitanteActuales) {
+        this.golesLocal = golesLocalActuales;
+        this.golesVisitante = golesVisitanteActuales;
+        Arrays.fill(totales, 0.0);
+        Arrays.fill(diferencias, 0.0);
+
+        double local = 0;
+        double empate = 0;
+        double visitante = 0;
+        double ambos = 0;
+        int diferenciaActual = golesLocalActuales - golesVisitanteActuales;
+
+        for (int x = 0; x < LADO; x++) {
+            for (int y = 0; y < LADO; y++) {
+                double p = matriz[x * LADO + y];
+
+                // El resultado final es lo que ya llevan + lo que van a meter
+                int diferenciaFinal = diferenciaActual + x - y;
+                if (diferenciaFinal > 0) {
+                    local += p;
+                } else if (diferenciaFinal == 0) {
+                    empate += p;
+                } else {
+                    visitante += p;
+                }
+                if (golesLocalActuales + x > 0 && golesVisitanteActuales + y > 0) {
+                    ambos += p;
+                }
+                totales[x + y] += p;
+                diferencias[x - y + MAX_GOLES] += p;
+            }
+        }
+
+        this.probLocal = local;
+        this.probEmpate = empate;
+        this.probVisitante = visitante;
+        this.probAmbosMarcan = ambos;
+
+        double acumulado = 0;
+        for (int k = 0; k < diferencias.length; k++) {
+            acumulado += diferencias[k];
+            hastaDiferencia[k + 1] = acumulado;
+        }
+        calcularLineasGoles();
+        calcularHandicaps();
+    }
+
+    private void calcularLineasGoles() {
+        int golesActuales = golesLocal + golesVisitante;
+        double total = probLocal + probEmpate + probVisitante;
+        double menos = 0;
+        for (int linea = 0; linea < NUM_LINEAS_GOLES; linea++) {
+            // Menos de linea + 0.5 goles: faltan a lo sumo linea - golesActuales
+            int faltan = linea - golesActuales;
+            if (faltan >= 0) {
+                menos += totales[faltan];
+            }
+            probMas[linea] = Math.max(0.0, total - menos);
+        }
+    }
+
+    /**
+     * Cuota con margen de cada línea de hándicap asiático del local. Con líneas enteras
+     * el empate devuelve la apuesta; las de cuarto de gol reparten la apuesta entre las
+     * dos líneas vecinas. La cuota es margen / P(gana | no se devuelve la apuesta).
+     */
+    private void calcularHandicaps() {
+        for (int cuarto = -CUARTOS_HANDICAP; cuarto <= CUARTOS_HANDICAP; cuarto++) {
+            double gana;
+            double pierde;
+            if (cuarto % 2 != 0) {
+                // Cuarto de gol: mitad de la apuesta a cada línea vecina
+                gana = ganaHandicap(cuarto - 1) + ganaHandicap(cuarto + 1);
+                pierde = pierdeHandicap(cuarto - 1) + pierdeHandicap(cuarto + 1);
+            } else {
+                gana = ganaHandicap(cuarto);
+                pierde = pierdeHandicap(cuarto);
+            }
+            cuotasHandicap[cuarto + CUARTOS_HANDICAP] = cuota(gana + pierde > 0 ? gana / (gana + pierde) : 0);
+        }
+    }
+
+    /**
+     * Probabilidad de que la diferencia final más el hándicap (en cuartos de gol) sea positiva.
+     */
+    private double ganaHandicap(int cuartos) {
+        // d > umbral  <=>  d >= piso(umbral) + 1
+        double umbral = golesVisitante - golesLocal - cuartos / 4.0;
+        return hastaDiferencia[hastaDiferencia.length - 1] - probabilidadHasta((int) Math.floor(umbral));
+    }
+
+    /**
+     * Probabilidad de que la diferencia final más el hándicap (en cuartos de gol) sea negativa.
+     */
+    private double pierdeHandicap(int cuartos) {
+        // d < umbral  <=>  d <= techo(umbral) - 1
+        double umbral = golesVisitante - golesLocal - cuartos / 4.0;
+        return probabilidadHasta((int) Math.ceil(umbral) - 1);
+    }
+
+    /**
+     * Probabilidad de que la diferencia de goles que falta sea a lo sumo d.
+     */
+    private double probabilidadHasta(int d) {
+        int acotada = Math.max(-MAX_GOLES - 1, Math.min(MAX_GOLES, d));
+        return hastaDiferencia[acotada + MAX_GOLES + 1];
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Cuota con margen para una probabilidad (igual que las de 1X2 de GestorMercado).
+     */
+    public double cuota(double probabilidad) {
+        return margen / Math.max(probabilidad, 0.0001);
+    }
+
+    public double getProbabilidadLocal() {
+        return probLocal;
+    }
+
+    public double getProbabilidadEmpate() {
+        return probEmpate;
+    }
+
+    public double getProbabilidadVisitante() {
+        return probVisitante;
+    }
+
+    /**
+     * Doble oportunidad: gana el local o empatan (1X).
+     */
+    public double getProbabilidadLocalOEmpate() {
+        return probLocal + probEmpate;
+    }
+
+    /**
+     * Doble oportunidad: empatan o gana el visitante (X2).
+     */
+    public double getProbabilidadEmpateOVisitante() {
+        return probEmpate + probVisitante;
+    }
+
+    /**
+     * Doble oportunidad: gana cualquiera de los dos (12).
+     */
+    public double getProbabilidadLocalOVisitante() {
+        return probLocal + probVisitante;
+    }
+
+    /**
+     * Marcador exacto al final del partido.
+     * @return Probabilidad, 0 si el marcador ya es imposible o pasa de MAX_GOLES goles más
+     */
+    public double getProbabilidadMarcador(int finalLocal, int finalVisitante) {
+        int x = finalLocal - golesLocal;
+        int y = finalVisitante - golesVisitante;
+        if (x < 0 || y < 0 || x > MAX_GOLES || y > MAX_GOLES) {
+            return 0.0;
+        }
+        return matriz[x * LADO + y];
+    }
+
+    /**
+     * Probabilidad de que haya más goles que la línea en todo el partido.
+     * @param linea 0.5, 1.5, 2.5, 3.5, 4.5 o 5.5
+     * @throws IllegalArgumentException si la línea no es una de esas
+     */
+    public double getProbabilidadMas(double linea) {
+        return probMas[indiceLinea(linea)];
+    }
+
+    /**
+     * Probabilidad de que haya menos goles que la línea en todo el partido.
+     * @param linea 0.5, 1.5, 2.5, 3.5, 4.5 o 5.5
+     * @throws IllegalArgumentException si la línea no es una de esas
+     */
+    public double getProbabilidadMenos(double linea) {
+        int i = indiceLinea(linea);
+        return Math.max(0.0, probLocal + probEmpate + probVisitante - probMas[i]);
+    }
+
+    public double getProbabilidadAmbosMarcan() {
+        return probAmbosMarcan;
+    }
+
+    /**
+     * Cuota del hándicap asiático a favor del local.
+     * @param handicap Goles que se suman al local, de -MAX_HANDICAP a MAX_HANDICAP en cuartos (por ejemplo -0.75)
+     * @throws IllegalArgumentException si el hándicap no es un cuarto de gol dentro del rango
+     */
+    public double getCuotaHandicap(double handicap) {
+        double cuartos = handicap * 4;
+        if (cuartos != Math.rint(cuartos) || Math.abs(cuartos) > CUARTOS_HANDICAP) {
+            throw new IllegalArgumentException("Hándicap no soportado: " + handicap);
+        }
+        return cuotasHandicap[(int) cuartos + CUARTOS_HANDICAP];
+    }
+
+    private static int indiceLinea(double linea) {
+        int i = (int) Math.floor(linea);
+        if (linea - i != 0.5 || i < 0 || i >= NUM_LINEAS_GOLES) {
+            throw new IllegalArgumentException("Línea de goles no soportada: " + linea);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.util;
+
+import org.example.core.CadenaMarkovPartido;
+
+/**
+ * Cuotas 1X2 ya calculadas para todos los estados de un partido (minuto y marcador),
+ * armadas una sola vez a partir de una CadenaMarkovPartido. Después cada consulta
+ * es una o dos lecturas de arreglo y una división.
+ *
+ * El resultado solo depende de la diferencia de goles, así que por cada minuto se
+ * guarda la probabilidad de que la diferencia que falta (local - visitante) sea al
+ * menos k, para k de -MAX_GOLES + 1 a MAX_GOLES (fuera de ese rango es 1 o 0); de ahí
+ * salen las tres cuotas. Son unos 15 KB por partido, y no se guarda la cadena.
+ */
+public class TablaCuotas {
+
+    private static final int MAX_GOLES = CadenaMarkovPartido.MAX_GOLES;
+    private static final int ANCHO = 2 * MAX_GOLES;
+
+    private final int minutoDesde;
+    private final int minutoHasta;
+    private final double margen;
+
+    // alMenos[fila * ANCHO + k + MAX_GOLES - 1]: probabilidad de que la diferencia que falta sea >= k
+    private final double[] alMenos;
+
+    /**
+     * @param cadena Cadena del partido; la tabla cubre desde cadena.getMinutoDesde()
+     * @param minutoHasta Último minuto siguiente que se puede consultar (inclusive)
+     * @param margen Fracción que se paga al apostador (cuota = margen / probabilidad)
+     */
+    TablaCuotas(CadenaMarkovPartido cadena, int minutoHasta, double margen) {
+        this.minutoDesde = cadena.getMinutoDesde();
+        this.minutoHasta = Math.max(minutoDesde, minutoHasta);
+        this.margen = margen;
+        int filas = this.minutoHasta - minutoDesde + 1;
+        this.alMenos = new double[filas * ANCHO];
+
+        for (int fila = 0; fila < filas; fila++) {
+            int minuto = minutoDesde + fila;
+            for (int k = -MAX_GOLES + 1; k <= MAX_GOLES; k++) {
+                // Gana el local con diferencia actual 1 - k  <=>  la diferencia que falta es >= k
+                int golesLocal = Math.max(1 - k, 0);
+                int golesVisitante = Math.max(k - 1, 0);
+                alMenos[fila * ANCHO + k + MAX_GOLES - 1] = cadena.getProbabilidadLocal(minuto, golesLocal, golesVisitante);
+            }
+        }
+    }
+
+    private double cuota(double probabilidad) {
+        return margen / Math.max(probabilidad, 0.0001);
+    }
+
+    // ===== CONSULTAS =====
+
+    public int getMinutoDesde() {
+        return minutoDesde;
+    }
+
+    public int getMinutoHasta() {
+        return minutoHasta;
+    }
+
+    /**
+     * Indica si la tabla tiene el minuto pedido.
+     */
+    public boolean cubre(int minutoSiguiente) {
+        return minutoSiguiente >= minutoDesde && minutoSiguiente <= minutoHasta;
+    }
+
+    public double getCuotaLocal(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        int fila = fila(minutoSiguiente);
+        return cuota(probabilidadAlMenos(fila, golesVisitante - golesLocal + 1));
+    }
+
+    public double getCuotaEmpate(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        int fila = fila(minutoSiguiente);
+        int k = golesVisitante - golesLocal;
+        return cuota(probabilidadAlMenos(fila, k) - probabilidadAlMenos(fila, k + 1));
+    }
+
+    public double getCuotaVisitante(int minutoSiguiente, int golesLocal, int golesVisitante) {
+        int fila = fila(minutoSiguiente);
+        return cuota(1.0 - probabilidadAlMenos(fila, golesVisitante - golesLocal));
+    }
+
+    /**
+     * @throws IllegalArgumentException si la tabla no cubre el minuto
+     */
+    private int fila(int minutoSiguiente) {
+        if (!cubre(minutoSiguiente)) {
+            throw new IllegalArgumentException("La tabla cubre los minutos " + minutoDesde + " a " + minutoHasta
+                    + ": " + minutoSiguiente);
+        }
+        return minutoSiguiente - minutoDesde;
+    }
+
+    /**
+     * Probabilidad de que la diferencia de goles que falta sea al menos k.
+     */
+    private double probabilidadAlMenos(int fila, int k) {
+        if (k <= -MAX_GOLES) {
+            return 1.0;
+        }
+        if (k > MAX_GOLES) {
+            return 0.0;
+        }
+        return alMenos[fila * ANCHO + k + MAX_GOLES - 1];
+    }
+}
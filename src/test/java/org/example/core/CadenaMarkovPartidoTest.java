@@ -0,0 +1,51 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CadenaMarkovPartidoTest {
+
+    private static final int PARTIDOS = 50_000;
+    private static final long SEMILLA = 42;
+
+    // Desvíos estándar de muestreo que se toleran entre la cadena y la simulación
+    private static final double DESVIOS = 4.0;
+
+    @Test
+    public void el1X2DeLaCadenaCoincideConMonteCarlo() {
+        for (int i = 1; i <= 3; i++) {
+            Equipos local = new Equipos("Local", new Aleatorio(2 * i));
+            Equipos visitante = new Equipos("Visitante", new Aleatorio(2 * i + 1));
+            CadenaMarkovPartido cadena = new CadenaMarkovPartido(local, visitante);
+            DistribucionResultados simulada = new SimulacionMonteCarlo(local, visitante).simular(PARTIDOS, SEMILLA);
+
+            String caso = "Equipos " + i;
+            assertDentroDelError(caso + ", local", cadena.getProbabilidadLocal(0, 0, 0), simulada.getProbabilidadLocal());
+            assertDentroDelError(caso + ", empate", cadena.getProbabilidadEmpate(0, 0, 0), simulada.getProbabilidadEmpate());
+            assertDentroDelError(caso + ", visitante", cadena.getProbabilidadVisitante(0, 0, 0),
+                    simulada.getProbabilidadVisitante());
+        }
+    }
+
+    @Test
+    public void lasProbabilidadesDeCadaEstadoSumanUno() {
+        CadenaMarkovPartido cadena = new CadenaMarkovPartido(new Equipos("Local", new Aleatorio(1)),
+                new Equipos("Visitante", new Aleatorio(2)));
+        for (int minuto = 0; minuto <= EjecutorPartido.MINUTOS + 1; minuto += 7) {
+            double suma = cadena.getProbabilidadLocal(minuto, 2, 1) + cadena.getProbabilidadEmpate(minuto, 2, 1)
+                    + cadena.getProbabilidadVisitante(minuto, 2, 1);
+            assertEquals("Minuto " + minuto, 1.0, suma, 1e-9);
+        }
+    }
+
+    /**
+     * La frecuencia simulada de un resultado está a menos de DESVIOS errores estándar de la probabilidad exacta.
+     */
+    private static void assertDentroDelError(String mensaje, double exacta, double simulada) {
+        double errorEstandar = Math.sqrt(exacta * (1 - exacta) / PARTIDOS);
+        assertEquals(mensaje, exacta, simulada, DESVIOS * errorEstandar);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.enums.ModoSimulacion;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LotePartidosTest {
+
+    private static final int PARTIDOS = 512;
+    private static final int MINUTO_CORTE = EjecutorPartido.MINUTOS / 2;
+
+    private final Equipos local = new Equipos("Local", new Aleatorio(1));
+    private final Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+
+    @Test
+    public void elLoteDaLoMismoQuePartidoConLaMismaSemilla() {
+        for (boolean porLote : new boolean[]{true, false}) {
+            LotePartidos lote = new LotePartidos(PARTIDOS);
+            lote.setResolucionPorLote(porLote);
+            for (int i = 0; i < PARTIDOS; i++) {
+                lote.cargar(i, local, visitante, i);
+            }
+            lote.jugar();
+
+            for (int i = 0; i < PARTIDOS; i++) {
+                Partido partido = new Partido(new Equipos(local), new Equipos(visitante), i);
+                partido.jugarHasta(EjecutorPartido.MINUTOS, ModoSimulacion.POR_MINUTO);
+                assertEquals("Semilla " + i + ", por lote " + porLote, huella(partido), huella(lote, i));
+            }
+        }
+    }
+
+    @Test
+    public void elLoteSigueIgualQueUnaContinuacionDePartido() {
+        Partido original = new Partido(new Equipos(local), new Equipos(visitante), 7);
+        original.jugarHasta(MINUTO_CORTE - 1, ModoSimulacion.POR_MINUTO);
+
+        LotePartidos lote = new LotePartidos(PARTIDOS);
+        for (int i = 0; i < PARTIDOS; i++) {
+            lote.cargar(i, original.getEquipoLocal(), original.getEquipoVisitante(), i);
+        }
+        lote.jugarMinutos(EjecutorPartido.MINUTOS + 1 - MINUTO_CORTE);
+
+        for (int i = 0; i < PARTIDOS; i++) {
+            Partido continuacion = new Partido(original, i);
+            continuacion.jugarHasta(EjecutorPartido.MINUTOS, ModoSimulacion.POR_MINUTO);
+            assertEquals("Semilla " + i, huella(continuacion), huella(lote, i));
+        }
+    }
+
+    /**
+     * Marcador, cambios y jugadores disponibles de cada equipo.
+     */
+    private static String huella(Partido partido) {
+        Equipos l = partido.getEquipoLocal();
+        Equipos v = partido.getEquipoVisitante();
+        return l.getGoles() + "-" + v.getGoles() + " cambios " + l.getCambiosRealizados() + "/" + v.getCambiosRealizados()
+                + " disponibles " + l.contarJugadoresDisponibles() + "/" + v.contarJugadoresDisponibles();
+    }
+
+    private static String huella(LotePartidos lote, int i) {
+        return lote.getGolesLocal(i) + "-" + lote.getGolesVisitante(i)
+                + " cambios " + lote.getCambiosLocal(i) + "/" + lote.getCambiosVisitante(i)
+                + " disponibles " + lote.contarJugadoresDisponibles(i, CodigoEvento.LOCAL)
+                + "/" + lote.contarJugadoresDisponibles(i, CodigoEvento.VISITANTE);
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+
+public class RegistroBinarioTest {
+
+    private static final int PARTIDOS = 300;
+    private static final int EVENTOS_POR_PARTIDO = 500;
+
+    // Registros por tramo de 1 GB del lector
+    private static final long REGISTROS_POR_TRAMO = (1L << 30) / EscritorRegistroBinario.TAMANO_REGISTRO;
+
+    @Rule
+    public TemporaryFolder carpeta = new TemporaryFolder();
+
+    @Test
+    public void loQueSeEscribeSeLeeIgual() throws IOException {
+        Path archivo = carpeta.newFile("registro.bin").toPath();
+        // Más registros que los que caben en el buffer del escritor, para que vacíe varias veces
+        try (EscritorRegistroBinario escritor = new EscritorRegistroBinario(archivo)) {
+            for (int p = 0; p < PARTIDOS; p++) {
+                escritor.escribir(p, registroDePrueba(p));
+            }
+        }
+
+        ByteBuffer cabecera = ByteBuffer.wrap(Files.readAllBytes(archivo), 0, EscritorRegistroBinario.TAMANO_CABECERA)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(EscritorRegistroBinario.MAGIA, cabecera.getInt());
+        assertEquals(EscritorRegistroBinario.VERSION, cabecera.getInt());
+        assertEquals((long) PARTIDOS * EVENTOS_POR_PARTIDO, cabecera.getLong());
+
+        try (LectorRegistroBinario lector = new LectorRegistroBinario(archivo)) {
+            assertEquals((long) PARTIDOS * EVENTOS_POR_PARTIDO, lector.getNumRegistros());
+            long desde = 0;
+            for (int p = 0; p < PARTIDOS; p++) {
+                RegistroEventos leido = new RegistroEventos();
+                assertEquals(p, lector.getPartido(desde));
+                desde = lector.leerPartido(desde, leido);
+                RegistroEventos esperado = registroDePrueba(p);
+                assertEquals(esperado.getTamano(), leido.getTamano());
+                for (int i = 0; i < esperado.getTamano(); i++) {
+                    assertEquals("Partido " + p + ", evento " + i, esperado.getCodigo(i), leido.getCodigo(i));
+                }
+            }
+            assertEquals(lector.getNumRegistros(), desde);
+        }
+    }
+
+    @Test
+    public void sinCerrarElEscritorSeCuentaPorElTamano() throws IOException {
+        Path archivo = carpeta.newFile("cortado.bin").toPath();
+        EscritorRegistroBinario escritor = new EscritorRegistroBinario(archivo);
+        escritor.escribir(7, registroDePrueba(7));
+        escritor.vaciar();
+
+        // La cabecera todavía dice 0 registros
+        try (LectorRegistroBinario lector = new LectorRegistroBinario(archivo)) {
+            assertEquals(EVENTOS_POR_PARTIDO, lector.getNumRegistros());
+            assertEquals(registroDePrueba(7).getCodigo(EVENTOS_POR_PARTIDO - 1),
+                    lector.getCodigo(EVENTOS_POR_PARTIDO - 1));
+        } finally {
+            escritor.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rechazaUnArchivoQueNoEsRegistro() throws IOException {
+        Path archivo = carpeta.newFile("otro.bin").toPath();
+        Files.write(archivo, new byte[EscritorRegistroBinario.TAMANO_CABECERA + EscritorRegistroBinario.TAMANO_REGISTRO]);
+        new LectorRegistroBinario(archivo).close();
+    }
+
+    @Test
+    public void leeAAmbosLadosDelLimiteEntreTramos() throws IOException {
+        // Archivo disperso de poco más de 1 GB: solo se escriben los registros alrededor del límite
+        Path archivo = carpeta.newFile("grande.bin").toPath();
+        long numRegistros = REGISTROS_POR_TRAMO + 2;
+        long primero = REGISTROS_POR_TRAMO - 2;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(EscritorRegistroBinario.TAMANO_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+            cabecera.putInt(EscritorRegistroBinario.MAGIA).putInt(EscritorRegistroBinario.VERSION).putLong(numRegistros).flip();
+            escribirTodo(canal, cabecera, 0);
+
+            ByteBuffer registros = ByteBuffer.allocate(4 * EscritorRegistroBinario.TAMANO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+            for (long i = primero; i < numRegistros; i++) {
+                registros.putInt((int) i).putInt(codigoDePrueba((int) i, 0));
+            }
+            registros.flip();
+            escribirTodo(canal, registros,
+                    EscritorRegistroBinario.TAMANO_CABECERA + primero * EscritorRegistroBinario.TAMANO_REGISTRO);
+        }
+
+        try (LectorRegistroBinario lector = new LectorRegistroBinario(archivo)) {
+            assertEquals(numRegistros, lector.getNumRegistros());
+            for (long i = primero; i < numRegistros; i++) {
+                assertEquals("Registro " + i, (int) i, lector.getPartido(i));
+                assertEquals("Registro " + i, codigoDePrueba((int) i, 0), lector.getCodigo(i));
+            }
+        }
+    }
+
+    private static void escribirTodo(FileChannel canal, ByteBuffer datos, long posicion) throws IOException {
+        while (datos.hasRemaining()) {
+            posicion += canal.write(datos, posicion);
+        }
+    }
+
+    /**
+     * Eventos de prueba de un partido: códigos distintos por partido y por posición.
+     */
+    private static RegistroEventos registroDePrueba(int partido) {
+        RegistroEventos registro = new RegistroEventos(EVENTOS_POR_PARTIDO);
+        for (int i = 0; i < EVENTOS_POR_PARTIDO; i++) {
+            registro.agregar(codigoDePrueba(partido, i));
+        }
+        return registro;
+    }
+
+    private static int codigoDePrueba(int partido, int i) {
+        return partido * 0x9E3779B1 + i * 31 + 1;
+    }
+}
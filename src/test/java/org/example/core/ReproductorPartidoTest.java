@@ -0,0 +1,92 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.entidades.Jugador;
+import org.example.enums.ModoSimulacion;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReproductorPartidoTest {
+
+    private static final int SEMILLAS = 3_000;
+    private static final int MINUTO_FINAL = EjecutorPartido.MINUTOS;
+
+    private final Equipos local = new Equipos("Local", new Aleatorio(1));
+    private final Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+
+    @Test
+    public void getEstadoIgualAJugarDirectoConExpulsiones() {
+        int conExpulsion = 0;
+        for (long semilla = 0; semilla < SEMILLAS; semilla++) {
+            Partido directo = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+            directo.jugarHasta(MINUTO_FINAL, ModoSimulacion.POR_MINUTO);
+            if (!huboExpulsion(directo)) {
+                continue;
+            }
+            conExpulsion++;
+
+            ReproductorPartido reproductor = new ReproductorPartido(local, visitante, semilla);
+            String esperado = huella(directo);
+            assertEquals("Semilla " + semilla, esperado, huella(reproductor.getEstado(MINUTO_FINAL)));
+            // Volver atrás y pedir de nuevo el mismo minuto rejuega desde los puntos de control
+            reproductor.getEstado(MINUTO_FINAL / 2 - 3);
+            assertEquals("Semilla " + semilla, esperado, huella(reproductor.getEstado(MINUTO_FINAL)));
+            assertEquals("Semilla " + semilla, esperado, huella(reproductor.getEstado(MINUTO_FINAL)));
+        }
+        assertTrue("Ninguna semilla tuvo expulsiones", conExpulsion > 0);
+    }
+
+    @Test
+    public void copiaSigueIgualQueElOriginalDespuesDeUnaExpulsion() {
+        int comparados = 0;
+        for (long semilla = 0; semilla < SEMILLAS; semilla++) {
+            Partido original = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+            original.jugarHasta(MINUTO_FINAL / 2, ModoSimulacion.POR_MINUTO);
+            if (!huboExpulsion(original)) {
+                continue;
+            }
+            comparados++;
+
+            Partido copia = new Partido(original);
+            original.jugarHasta(MINUTO_FINAL, ModoSimulacion.POR_MINUTO);
+            copia.jugarHasta(MINUTO_FINAL, ModoSimulacion.POR_MINUTO);
+            assertEquals("Semilla " + semilla, huella(original), huella(copia));
+        }
+        assertTrue("Ninguna semilla tuvo expulsiones", comparados > 0);
+    }
+
+    private static boolean huboExpulsion(Partido partido) {
+        return partido.getEquipoLocal().getTarjetasRojas() + partido.getEquipoVisitante().getTarjetasRojas() > 0
+                || partido.getEquipoLocal().contarJugadoresDisponibles() < partido.getEquipoLocal().getNumTitulares()
+                || partido.getEquipoVisitante().contarJugadoresDisponibles() < partido.getEquipoVisitante().getNumTitulares();
+    }
+
+    /**
+     * Resumen del estado de un partido: marcador, tarjetas, cambios y estado de cada titular.
+     */
+    private static String huella(Partido partido) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(partido.getMinutoSiguiente());
+        huellaEquipo(sb, partido.getEquipoLocal());
+        huellaEquipo(sb, partido.getEquipoVisitante());
+        return sb.toString();
+    }
+
+    private static void huellaEquipo(StringBuilder sb, Equipos equipo) {
+        sb.append(" | ").append(equipo.getGoles())
+                .append(' ').append(equipo.getTarjetasAmarillas())
+                .append(' ').append(equipo.getTarjetasRojas())
+                .append(' ').append(equipo.getCambiosRealizados())
+                .append(' ').append(equipo.contarJugadoresDisponibles());
+        for (Jugador jugador : equipo.getTitulares()) {
+            sb.append(", ").append(jugador.getNombre())
+                    .append('/').append(jugador.getGoles())
+                    .append('/').append(jugador.getTarjetasAmarillas())
+                    .append('/').append(jugador.getTarjetasRojas())
+                    .append('/').append(jugador.isExpulsado());
+        }
+    }
+}
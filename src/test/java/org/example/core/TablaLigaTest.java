@@ -0,0 +1,69 @@
+package org.example.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TablaLigaTest {
+
+    @Test
+    public void elEnfrentamientoDirectoVaAntesQueLaDiferenciaGeneral() {
+        TablaLiga tabla = new TablaLiga(4);
+        tabla.registrar(0, 1, 1, 0);
+        tabla.registrar(1, 2, 5, 0);
+        tabla.registrar(0, 2, 0, 0);
+        tabla.registrar(1, 3, 0, 0);
+        tabla.registrar(2, 3, 2, 2);
+
+        // 0 y 1 terminan con 4 puntos; 1 tiene mejor diferencia (+4 contra +1), pero 0 le ganó
+        assertEquals(tabla.getPuntos(0), tabla.getPuntos(1));
+        assertEquals(4, tabla.getDiferenciaGoles(1));
+        // 2 y 3 empataron entre sí: decide la diferencia general (-5 contra 0)
+        assertArrayEquals(new int[]{0, 1, 3, 2}, tabla.getClasificacion());
+    }
+
+    @Test
+    public void laMiniLigaSoloCuentaLosPartidosEntreLosEmpatados() {
+        TablaLiga tabla = new TablaLiga(4);
+        // Triángulo 0 > 1 > 2 > 0: todos con 3 puntos entre ellos
+        tabla.registrar(0, 1, 1, 0);
+        tabla.registrar(1, 2, 5, 0);
+        tabla.registrar(2, 0, 1, 0);
+        // Los tres le ganan a 3, pero 2 por mucho más: esos goles no cuentan para la mini liga
+        tabla.registrar(0, 3, 1, 0);
+        tabla.registrar(1, 3, 1, 0);
+        tabla.registrar(2, 3, 9, 0);
+
+        // Mini liga: diferencia +4 (1), 0 (0) y -4 (2); por diferencia general 2 (+5) iría antes que 0 (+1)
+        assertEquals(5, tabla.getDiferenciaGoles(2));
+        assertEquals(1, tabla.getDiferenciaGoles(0));
+        assertArrayEquals(new int[]{1, 0, 2, 3}, tabla.getClasificacion());
+    }
+
+    @Test
+    public void siLaMiniLigaEmpataDecideLaDiferenciaGeneral() {
+        TablaLiga tabla = new TablaLiga(3);
+        tabla.registrar(0, 1, 1, 1);
+        tabla.registrar(1, 0, 2, 2);
+        tabla.registrar(1, 2, 1, 0);
+        tabla.registrar(0, 2, 3, 0);
+
+        // Entre 0 y 1 todo igual (2 puntos, diferencia 0, 3 goles); en general 0 tiene +3 y 1 tiene +1
+        assertArrayEquals(new int[]{0, 1, 2}, tabla.getClasificacion());
+    }
+
+    @Test
+    public void siTodoEmpataDecideElIndice() {
+        TablaLiga tabla = new TablaLiga(3);
+        tabla.registrar(2, 1, 0, 0);
+        tabla.registrar(1, 2, 0, 0);
+
+        assertArrayEquals(new int[]{1, 2, 0}, tabla.getClasificacion());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unaLigaNecesitaDosEquipos() {
+        new TablaLiga(1);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.core;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TandaPenalesTest {
+
+    private static final int SEMILLAS = 5_000;
+    private static final int PENALES_POR_EQUIPO = 5;
+
+    // Rondas de muerte súbita que explora el modelo de referencia
+    private static final int MAX_RONDAS = 30;
+
+    private final Equipos local = new Equipos("Local", new Aleatorio(1));
+    private final Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+
+    @Test
+    public void laTandaTerminaCuandoLasReglasLoDicen() {
+        Set<String> posibles = new HashSet<>();
+        explorar(0, 0, 0, true, posibles, new HashSet<>());
+
+        boolean huboMuerteSubita = false;
+        for (long semilla = 0; semilla < SEMILLAS; semilla++) {
+            Partido partido = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+            assertEquals(-1, partido.getPenalesLocal());
+
+            int ganador = partido.tandaPenales();
+            int penalesLocal = partido.getPenalesLocal();
+            int penalesVisitante = partido.getPenalesVisitante();
+            String caso = "Semilla " + semilla + ": " + penalesLocal + "-" + penalesVisitante;
+
+            // Sin cortar la serie al quedar decidida saldrían marcadores como 5-2 o 4-0
+            assertTrue(caso, posibles.contains(penalesLocal + "-" + penalesVisitante));
+            assertEquals(caso, penalesLocal > penalesVisitante ? CodigoEvento.LOCAL : CodigoEvento.VISITANTE, ganador);
+            assertEquals(caso, 0, partido.getEquipoLocal().getGoles());
+            assertEquals(caso, 0, partido.getEquipoVisitante().getGoles());
+
+            if (Math.max(penalesLocal, penalesVisitante) > PENALES_POR_EQUIPO) {
+                // Más de cinco goles solo en muerte súbita, que se gana por uno
+                huboMuerteSubita = true;
+                assertEquals(caso, 1, Math.abs(penalesLocal - penalesVisitante));
+            }
+        }
+        assertTrue("Ninguna tanda llegó a muerte súbita", huboMuerteSubita);
+    }
+
+    @Test
+    public void laMismaSemillaDaLaMismaTanda() {
+        for (long semilla = 0; semilla < 100; semilla++) {
+            Partido primero = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+            Partido segundo = new Partido(new Equipos(local), new Equipos(visitante), semilla);
+            assertEquals(primero.tandaPenales(), segundo.tandaPenales());
+            assertEquals(primero.getPenalesLocal(), segundo.getPenalesLocal());
+            assertEquals(primero.getPenalesVisitante(), segundo.getPenalesVisitante());
+        }
+    }
+
+    /**
+     * Modelo de referencia: agrega a posibles todos los marcadores finales a los que se
+     * llega tirando alternado, cortando la serie de cinco en cuanto uno ya no puede
+     * alcanzar al otro y siguiendo a muerte súbita si termina empatada.
+     * @param ronda Ronda en curso (desde 0)
+     * @param tiraLocal true si le toca al local en esta ronda
+     * @param visitados Estados ya explorados (muchos caminos llegan al mismo)
+     */
+    private static void explorar(int ronda, int golesLocal, int golesVisitante, boolean tiraLocal,
+                                 Set<String> posibles, Set<String> visitados) {
+        if (ronda >= MAX_RONDAS || !visitados.add(ronda + "/" + golesLocal + "/" + golesVisitante + "/" + tiraLocal)) {
+            return;
+        }
+        for (int gol = 0; gol <= 1; gol++) {
+            int l = golesLocal + (tiraLocal ? gol : 0);
+            int v = golesVisitante + (tiraLocal ? 0 : gol);
+            int tirosLocal = ronda + 1;
+            int tirosVisitante = tiraLocal ? ronda : ronda + 1;
+            boolean termina;
+            if (ronda < PENALES_POR_EQUIPO) {
+                termina = l + (PENALES_POR_EQUIPO - tirosLocal) < v
+                        || v + (PENALES_POR_EQUIPO - tirosVisitante) < l
+                        || (tirosVisitante == PENALES_POR_EQUIPO && l != v);
+            } else {
+                termina = !tiraLocal && l != v;
+            }
+            if (termina) {
+                posibles.add(l + "-" + v);
+            } else if (tiraLocal) {
+                explorar(ronda, l, v, false, posibles, visitados);
+            } else {
+                explorar(ronda + 1, l, v, true, posibles, visitados);
+            }
+        }
+    }
+}
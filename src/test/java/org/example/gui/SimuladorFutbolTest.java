@@ -0,0 +1,38 @@
+package org.example.gui;
+
+import org.example.core.EjecutorPartido;
+import org.example.core.Partido;
+import org.example.entidades.Equipos;
+import org.example.enums.ModoSimulacion;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SimuladorFutbolTest {
+
+    private static final long[] SEMILLAS = {1L, 42L, -7L, 123456789L};
+
+    @Test
+    public void laSemillaImpresaRepiteElPartidoConEquiposNuevos() {
+        for (long semilla : SEMILLAS) {
+            Partido primero = jugar(semilla);
+            Partido segundo = jugar(semilla);
+
+            assertEquals(primero.getEquipoLocal().getGoles(), segundo.getEquipoLocal().getGoles());
+            assertEquals(primero.getEquipoVisitante().getGoles(), segundo.getEquipoVisitante().getGoles());
+            assertEquals(primero.getEquipoLocal().getTarjetasAmarillas(), segundo.getEquipoLocal().getTarjetasAmarillas());
+            assertEquals(primero.getEquipoVisitante().getTarjetasAmarillas(), segundo.getEquipoVisitante().getTarjetasAmarillas());
+        }
+    }
+
+    /**
+     * Juega un partido completo armando los equipos desde cero, como al pulsar "Iniciar".
+     */
+    private static Partido jugar(long semilla) {
+        Equipos local = SimuladorFutbol.crearEquipo("Local", "4-4-2", semilla, SimuladorFutbol.INDICE_LOCAL);
+        Equipos visitante = SimuladorFutbol.crearEquipo("Visitante", "4-3-3", semilla, SimuladorFutbol.INDICE_VISITANTE);
+        Partido partido = new Partido(local, visitante, semilla);
+        partido.jugarHasta(EjecutorPartido.MINUTOS, ModoSimulacion.POR_MINUTO);
+        return partido;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.servidor;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ServidorPartidosTest {
+
+    private static final int PARTIDOS = 8;
+
+    @Test
+    public void unOyenteQueFallaNoFrenaALosPartidos() throws InterruptedException {
+        CountDownLatch terminados = new CountDownLatch(PARTIDOS);
+        try (ServidorPartidos servidor = new ServidorPartidos(ServidorPartidos.MS_POR_TICK)) {
+            servidor.agregarOyente(new OyentePartido() {
+                @Override
+                public void minutoJugado(PartidoEnVivo partido, int codigo) {
+                    throw new IllegalStateException("Oyente con fallas");
+                }
+
+                @Override
+                public void partidoTerminado(PartidoEnVivo partido) {
+                    throw new IllegalStateException("Oyente con fallas");
+                }
+            });
+            servidor.agregarOyente(new OyentePartido() {
+                @Override
+                public void minutoJugado(PartidoEnVivo partido, int codigo) {
+                }
+
+                @Override
+                public void partidoTerminado(PartidoEnVivo partido) {
+                    terminados.countDown();
+                }
+            });
+
+            for (int i = 0; i < PARTIDOS; i++) {
+                servidor.iniciarPartido(new Equipos("Local " + i, new Aleatorio(2 * i)),
+                        new Equipos("Visitante " + i, new Aleatorio(2 * i + 1)), i);
+            }
+
+            assertTrue("Los partidos no terminaron", terminados.await(30, TimeUnit.SECONDS));
+            assertEquals(0, servidor.getNumPartidos());
+            assertTrue(servidor.getErroresOyentes() > 0);
+            assertTrue(servidor.getUltimoErrorOyente() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void unLoteRechazadoNoDetieneLaRueda() throws InterruptedException {
+        // Los primeros lotes se rechazan, como un pool saturado o cerrándose
+        AtomicInteger rechazos = new AtomicInteger(5);
+        Executor trabajadores = tarea -> {
+            if (rechazos.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("Pool saturado");
+            }
+            ForkJoinPool.commonPool().execute(tarea);
+        };
+
+        CountDownLatch terminados = new CountDownLatch(PARTIDOS);
+        try (ServidorPartidos servidor = new ServidorPartidos(ServidorPartidos.MS_POR_TICK, trabajadores)) {
+            servidor.agregarOyente(new OyentePartido() {
+                @Override
+                public void minutoJugado(PartidoEnVivo partido, int codigo) {
+                }
+
+                @Override
+                public void partidoTerminado(PartidoEnVivo partido) {
+                    terminados.countDown();
+                }
+            });
+
+            for (int i = 0; i < PARTIDOS; i++) {
+                servidor.iniciarPartido(new Equipos("Local " + i, new Aleatorio(2 * i)),
+                        new Equipos("Visitante " + i, new Aleatorio(2 * i + 1)), i);
+            }
+
+            assertTrue("La rueda se detuvo", terminados.await(30, TimeUnit.SECONDS));
+            assertEquals(5, servidor.getLotesRechazados());
+        }
+    }
+}
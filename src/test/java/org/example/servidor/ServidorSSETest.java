@@ -0,0 +1,110 @@
+package org.example.servidor;
+
+import org.example.entidades.Equipos;
+import org.example.util.Aleatorio;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertTrue;
+
+public class ServidorSSETest {
+
+    private static final int CLIENTES_TRABADOS = 3;
+    private static final long PLAZO_MS = 200;
+    private static final long ESPERA_MAXIMA_MS = 30_000;
+
+    @Test
+    public void losClientesQueNoLeenNoFrenanAUnoQueLee() throws Exception {
+        List<Socket> sockets = new ArrayList<>();
+        try (ServidorPartidos partidos = new ServidorPartidos(ServidorPartidos.MS_POR_TICK);
+             ServidorSSE sse = new ServidorSSE(partidos, 0, ServidorSSE.CAPACIDAD_POR_DEFECTO, 1, PLAZO_MS)) {
+
+            for (int i = 0; i < CLIENTES_TRABADOS; i++) {
+                // Buffer de recepción chico para que el socket se llene pronto
+                Socket trabado = new Socket();
+                trabado.setReceiveBufferSize(1024);
+                sockets.add(trabado);
+                conectar(trabado, sse.getPuerto());
+            }
+            Socket sano = new Socket();
+            sockets.add(sano);
+            conectar(sano, sse.getPuerto());
+            AtomicLong recibidos = new AtomicLong();
+            Thread lector = leerSinParar(sano, recibidos);
+
+            long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+            while (sse.getNumClientes() < CLIENTES_TRABADOS + 1 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            int semilla = 0;
+            while (sse.getDesconectados() < CLIENTES_TRABADOS && System.currentTimeMillis() < limite) {
+                semilla = iniciarPartido(partidos, semilla);
+                Thread.sleep(5);
+            }
+            assertTrue("No se desconectó a los clientes que no leen", sse.getDesconectados() >= CLIENTES_TRABADOS);
+
+            // Con el único escritor libre, el cliente que lee tiene que seguir recibiendo
+            long antes = recibidos.get();
+            long hasta = System.currentTimeMillis() + 1_000;
+            while (System.currentTimeMillis() < hasta) {
+                semilla = iniciarPartido(partidos, semilla);
+                Thread.sleep(5);
+            }
+            assertTrue("El cliente que lee dejó de recibir datos", recibidos.get() > antes);
+
+            lector.interrupt();
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    /**
+     * Abre la conexión y pide todos los partidos, sin leer la respuesta.
+     */
+    private static void conectar(Socket socket, int puerto) throws IOException {
+        socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto));
+        OutputStream salida = socket.getOutputStream();
+        salida.write("GET /eventos HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        salida.flush();
+    }
+
+    /**
+     * Lee todo lo que llegue al socket y cuenta los bytes, hasta que se cierre.
+     */
+    private static Thread leerSinParar(Socket socket, AtomicLong recibidos) {
+        Thread hilo = new Thread(() -> {
+            byte[] buffer = new byte[8192];
+            try {
+                InputStream entrada = socket.getInputStream();
+                int n;
+                while ((n = entrada.read(buffer)) > 0) {
+                    recibidos.addAndGet(n);
+                }
+            } catch (IOException e) {
+                // Se cerró el socket al terminar la prueba
+            }
+        }, "lector-sano");
+        hilo.setDaemon(true);
+        hilo.start();
+        return hilo;
+    }
+
+    private static int iniciarPartido(ServidorPartidos partidos, int semilla) {
+        partidos.iniciarPartido(new Equipos("Local", new Aleatorio(semilla)),
+                new Equipos("Visitante", new Aleatorio(semilla + 1)), semilla);
+        return semilla + 2;
+    }
+}
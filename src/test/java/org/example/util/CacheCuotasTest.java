@@ -0,0 +1,122 @@
+package org.example.util;
+
+import org.example.entidades.Equipos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CacheCuotasTest {
+
+    private static final int HILOS = 4;
+    private static final int OPERACIONES_POR_HILO = 500_000;
+
+    @Test
+    public void guardaYEncuentraLasCuotas() {
+        CacheCuotas cache = new CacheCuotas(64);
+        long clave = CacheCuotas.clave(1, 150, 90);
+        double[] cuotas = new double[3];
+
+        assertFalse(cache.buscar(clave, cuotas));
+        cache.guardar(clave, 1.5, 3.2, 5.1);
+        assertTrue(cache.buscar(clave, cuotas));
+        assertEquals(1.5, cuotas[0], 0.0);
+        assertEquals(3.2, cuotas[1], 0.0);
+        assertEquals(5.1, cuotas[2], 0.0);
+        assertEquals(1, cache.getAciertos());
+        assertEquals(1, cache.getFallos());
+    }
+
+    @Test
+    public void reemplazaLaMenosUsadaDelConjunto() {
+        // Con capacidad VIAS hay un solo conjunto: todas las claves compiten por él
+        CacheCuotas cache = new CacheCuotas(CacheCuotas.VIAS);
+        double[] cuotas = new double[3];
+        for (int i = 0; i < CacheCuotas.VIAS; i++) {
+            cache.guardar(CacheCuotas.clave(0, i, i), i, i, i);
+        }
+        // La primera se vuelve a usar, así que la menos usada es la segunda
+        assertTrue(cache.buscar(CacheCuotas.clave(0, 0, 0), cuotas));
+        cache.guardar(CacheCuotas.clave(0, 99, 99), 99, 99, 99);
+
+        assertEquals(1, cache.getReemplazos());
+        assertTrue(cache.buscar(CacheCuotas.clave(0, 0, 0), cuotas));
+        assertFalse(cache.buscar(CacheCuotas.clave(0, 1, 1), cuotas));
+        assertTrue(cache.buscar(CacheCuotas.clave(0, 99, 99), cuotas));
+    }
+
+    @Test
+    public void lecturasConcurrentesNoMezclanCuotasDeDistintasClaves() throws InterruptedException {
+        // Pocas casillas y varias claves por conjunto: las lecturas se cruzan con reemplazos
+        CacheCuotas cache = new CacheCuotas(16);
+        AtomicLong mezcladas = new AtomicLong();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            Aleatorio random = new Aleatorio(h);
+            Thread hilo = new Thread(() -> {
+                double[] cuotas = new double[3];
+                for (int i = 0; i < OPERACIONES_POR_HILO; i++) {
+                    long clave = CacheCuotas.clave(random.siguienteEntero(5) - 2,
+                            random.siguienteEntero(6), random.siguienteEntero(6));
+                    if (cache.buscar(clave, cuotas)) {
+                        // Las cuotas guardadas salen de la clave, así se nota si se mezclaron
+                        if (cuotas[0] != clave || cuotas[1] != 2.0 * clave || cuotas[2] != 3.0 * clave) {
+                            mezcladas.incrementAndGet();
+                        }
+                    } else {
+                        cache.guardar(clave, clave, 2.0 * clave, 3.0 * clave);
+                    }
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+
+        assertEquals(0, mezcladas.get());
+        assertEquals((long) HILOS * OPERACIONES_POR_HILO, cache.getAciertos() + cache.getFallos());
+        assertTrue(cache.getAciertos() > 0);
+        assertTrue(cache.getReemplazos() > 0);
+    }
+
+    @Test
+    public void unAciertoDaLasMismasCuotasQueCalcular() {
+        Equipos local = new Equipos("Local", new Aleatorio(1));
+        Equipos visitante = new Equipos("Visitante", new Aleatorio(2));
+        CacheCuotas cache = new CacheCuotas(1024);
+
+        for (int minuto = 0; minuto <= 90; minuto += 5) {
+            for (int goles = 0; goles < 3; goles++) {
+                GestorMercado calculado = new GestorMercado(new CacheCuotas(CacheCuotas.VIAS));
+                calculado.actualizarCuotas(minuto, goles, 1, local, visitante);
+                // La primera vez se calcula y se guarda, la segunda sale de la caché
+                GestorMercado guardado = new GestorMercado(cache);
+                guardado.actualizarCuotas(minuto, goles, 1, local, visitante);
+                GestorMercado encontrado = new GestorMercado(cache);
+                encontrado.actualizarCuotas(minuto, goles, 1, local, visitante);
+
+                assertEquals(calculado.getCuotaLocal(), encontrado.getCuotaLocal());
+                assertEquals(calculado.getCuotaEmpate(), encontrado.getCuotaEmpate());
+                assertEquals(calculado.getCuotaVisitante(), encontrado.getCuotaVisitante());
+                assertEquals(calculado.getMercados().getProbabilidadMas(2.5),
+                        encontrado.getMercados().getProbabilidadMas(2.5), 0.0);
+                assertEquals(calculado.getMercados().getCuotaHandicap(-0.75),
+                        encontrado.getMercados().getCuotaHandicap(-0.75), 0.0);
+            }
+        }
+        assertTrue(cache.getAciertos() > 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unMercadoConCacheNoArmaTabla() {
+        GestorMercado mercado = new GestorMercado(new CacheCuotas(64));
+        mercado.prepararTabla(new Equipos("Local", new Aleatorio(1)), new Equipos("Visitante", new Aleatorio(2)));
+    }
+}
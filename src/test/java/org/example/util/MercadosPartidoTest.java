@@ -0,0 +1,116 @@
+package org.example.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MercadosPartidoTest {
+
+    private static final double MARGEN = 0.95;
+    private static final int LADO = MercadosPartido.MAX_GOLES + 1;
+    private static final double[] LINEAS = {0.5, 1.5, 2.5, 3.5, 4.5, 5.5};
+
+    // Marcadores actuales: sin goles y con goles de los dos lados
+    private static final int[][] MARCADORES = {{0, 0}, {1, 2}, {2, 0}};
+
+    @Test
+    public void losHandicapsDeCuartoPaganComoMediaApuestaEnCadaLinea() {
+        for (int[] marcador : MARCADORES) {
+            MercadosPartido mercados = mercadosCon(1.1, 0.8, marcador[0], marcador[1]);
+            double[] diferencias = diferenciasFinales(mercados.getMatriz(), marcador[0], marcador[1]);
+            double gana = sumar(diferencias, 1, Integer.MAX_VALUE);
+            double empata = sumar(diferencias, 0, 0);
+            double ganaPorUno = sumar(diferencias, 1, 1);
+            double ganaPorDos = sumar(diferencias, 2, Integer.MAX_VALUE);
+            double pierdePorUno = sumar(diferencias, -1, -1);
+            String caso = "Marcador " + marcador[0] + "-" + marcador[1];
+
+            // Cuota justa O de cada línea: lo que se espera cobrar por unidad apostada es 1
+            // -0.25: gana cobra O; empate devuelve media apuesta
+            assertEquals(caso + ", -0.25", MARGEN * (1 - 0.5 * empata) / gana,
+                    mercados.getCuotaHandicap(-0.25), 1e-9);
+            // +0.25: gana cobra O; empate cobra media apuesta a O y devuelve la otra media
+            assertEquals(caso + ", +0.25", MARGEN * (1 - 0.5 * empata) / (gana + 0.5 * empata),
+                    mercados.getCuotaHandicap(0.25), 1e-9);
+            // -0.75: ganar por dos cobra O; ganar por uno cobra media apuesta a O y devuelve la otra media
+            assertEquals(caso + ", -0.75", MARGEN * (1 - 0.5 * ganaPorUno) / (ganaPorDos + 0.5 * ganaPorUno),
+                    mercados.getCuotaHandicap(-0.75), 1e-9);
+            // +0.75: ganar o empatar cobra O; perder por uno devuelve media apuesta
+            assertEquals(caso + ", +0.75", MARGEN * (1 - 0.5 * pierdePorUno) / (gana + empata),
+                    mercados.getCuotaHandicap(0.75), 1e-9);
+        }
+    }
+
+    @Test
+    public void masYMenosSumanUnoConGolesYaMarcados() {
+        for (int[] marcador : MARCADORES) {
+            MercadosPartido mercados = mercadosCon(1.4, 1.2, marcador[0], marcador[1]);
+            int golesActuales = marcador[0] + marcador[1];
+            for (double linea : LINEAS) {
+                String caso = "Marcador " + marcador[0] + "-" + marcador[1] + ", línea " + linea;
+                double mas = mercados.getProbabilidadMas(linea);
+                assertEquals(caso, 1.0, mas + mercados.getProbabilidadMenos(linea), 1e-9);
+                if (linea < golesActuales) {
+                    assertEquals(caso, 1.0, mas, 1e-9);
+                }
+            }
+            // Con la línea justo encima del marcador, "más" es que haya al menos un gol más
+            double matriz00 = mercados.getMatriz()[0];
+            assertEquals(1.0 - matriz00, mercados.getProbabilidadMas(golesActuales + 0.5), 1e-9);
+        }
+    }
+
+    /**
+     * Mercados con una matriz de Poisson independiente (normalizada para que sume 1) y un marcador actual.
+     */
+    private static MercadosPartido mercadosCon(double lambdaLocal, double lambdaVisitante, int golesLocal,
+                                               int golesVisitante) {
+        MercadosPartido mercados = new MercadosPartido(MARGEN);
+        double[] matriz = mercados.getMatriz();
+        double[] local = poisson(lambdaLocal);
+        double[] visitante = poisson(lambdaVisitante);
+        for (int x = 0; x < LADO; x++) {
+            for (int y = 0; y < LADO; y++) {
+                matriz[x * LADO + y] = local[x] * visitante[y];
+            }
+        }
+        mercados.calcular(golesLocal, golesVisitante);
+        return mercados;
+    }
+
+    private static double[] poisson(double lambda) {
+        double[] p = new double[LADO];
+        double termino = Math.exp(-lambda);
+        double suma = 0;
+        for (int k = 0; k < LADO; k++) {
+            p[k] = termino;
+            suma += termino;
+            termino *= lambda / (k + 1);
+        }
+        for (int k = 0; k < LADO; k++) {
+            p[k] /= suma;
+        }
+        return p;
+    }
+
+    /**
+     * Distribución de la diferencia final (local - visitante); el índice d + 2 * LADO es la diferencia d.
+     */
+    private static double[] diferenciasFinales(double[] matriz, int golesLocal, int golesVisitante) {
+        double[] diferencias = new double[4 * LADO + 1];
+        for (int x = 0; x < LADO; x++) {
+            for (int y = 0; y < LADO; y++) {
+                diferencias[golesLocal + x - golesVisitante - y + 2 * LADO] += matriz[x * LADO + y];
+            }
+        }
+        return diferencias;
+    }
+
+    private static double sumar(double[] diferencias, int desde, int hasta) {
+        double suma = 0;
+        for (int d = Math.max(desde, -2 * LADO); d <= Math.min(hasta, 2 * LADO); d++) {
+            suma += diferencias[d + 2 * LADO];
+        }
+        return suma;
+    }
+}